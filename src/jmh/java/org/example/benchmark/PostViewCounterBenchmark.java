@@ -0,0 +1,47 @@
+package org.example.benchmark;
+
+import org.example.infrastructure.adapters.output.views.PostViewCounterAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// What a view costs the request thread. With posts = 1 every thread counts views of the same
+// post, which is where a single shared counter would have the threads queue on one cache line.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostViewCounterBenchmark {
+
+    @Param({"1", "1000"})
+    private int posts;
+
+    private PostViewCounterAdapter postViewCounterAdapter;
+
+    // never flushed, so the database is not needed
+    @Setup
+    public void setUp() {
+        postViewCounterAdapter = new PostViewCounterAdapter(new JdbcTemplate(), Duration.ofSeconds(5), 1000, 10_000);
+    }
+
+    @Benchmark
+    public long recordView() {
+        long postId = posts == 1 ? 1 : ThreadLocalRandom.current().nextInt(posts);
+        return postViewCounterAdapter.recordView(postId, 0);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.benchmark;
+
+import org.example.infrastructure.adapters.output.trending.TrendingPostsAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// What recording a view for the trending ranking costs. With posts = 1 every thread records
+// on the same post, as it would for a post that is actually trending.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrendingPostsBenchmark {
+
+    @Param({"1", "1000"})
+    private int posts;
+
+    private TrendingPostsAdapter trendingPostsAdapter;
+
+    // neither started nor flushed, so no engagement store is needed
+    @Setup
+    public void setUp() {
+        trendingPostsAdapter = new TrendingPostsAdapter(null, Clock.systemUTC(), Duration.ofHours(1), 12, 100, 5,
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @Benchmark
+    public void recordView() {
+        long postId = posts == 1 ? 1 : ThreadLocalRandom.current().nextInt(posts);
+        trendingPostsAdapter.recordView(postId);
+    }
+}
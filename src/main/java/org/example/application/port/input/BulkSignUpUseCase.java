@@ -0,0 +1,13 @@
+package org.example.application.port.input;
+
+import org.example.domain.models.User;
+import org.example.domain.models.UserImportResult;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface BulkSignUpUseCase {
+
+    void signUpAll(Stream<User> users, Consumer<UserImportResult> results);
+
+}
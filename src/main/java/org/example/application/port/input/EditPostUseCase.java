@@ -1,5 +1,6 @@
 package org.example.application.port.input;
 
+import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.Post;
@@ -10,5 +11,5 @@ import java.nio.file.AccessDeniedException;
 public interface EditPostUseCase {
 
 
-    Post editPost(User post, Post updatedPost) throws UserNotFoundException, PostNotFoundException, AccessDeniedException;
+    Post editPost(User post, Post updatedPost) throws UserNotFoundException, PostNotFoundException, AccessDeniedException, PostAlreadyExistsException;
 }
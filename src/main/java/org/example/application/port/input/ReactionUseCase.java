@@ -0,0 +1,15 @@
+package org.example.application.port.input;
+
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionTarget;
+import org.example.domain.models.User;
+
+public interface ReactionUseCase {
+
+    long react(User user, ReactionTarget target, Long targetId) throws PostNotFoundException, CommentNotFoundException;
+
+    long removeReaction(User user, ReactionTarget target, Long targetId);
+
+    long getReactionCount(ReactionTarget target, Long targetId);
+}
@@ -0,0 +1,9 @@
+package org.example.application.port.input;
+
+import org.example.domain.models.CursorPage;
+import org.example.domain.models.PostSummary;
+
+public interface SearchPostsUseCase {
+
+    CursorPage<PostSummary> searchPosts(String query, String cursor, int limit);
+}
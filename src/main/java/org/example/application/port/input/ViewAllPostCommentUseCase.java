@@ -1,11 +1,14 @@
 package org.example.application.port.input;
 
 import org.example.domain.exceptions.PostNotFoundException;
-import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface ViewAllPostCommentUseCase {
 
-    List<Comment> viewAllPostCommentsByPostId(Long postId) throws PostNotFoundException;
+    CursorPage<CommentSummary> viewAllPostCommentsByPostId(Long postId, String cursor, int limit) throws PostNotFoundException;
+
+    void streamAllPostCommentsByPostId(Long postId, Consumer<CommentSummary> consumer) throws PostNotFoundException;
 }
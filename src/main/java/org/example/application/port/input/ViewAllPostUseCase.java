@@ -2,13 +2,12 @@ package org.example.application.port.input;
 
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
-import org.example.domain.models.Post;
-
-import java.util.List;
+import org.example.domain.models.CursorPage;
+import org.example.domain.models.PostSummary;
 
 public interface ViewAllPostUseCase {
 
-    List<Post> getAllPostsByUserId(Long id) throws UserNotFoundException, PostNotFoundException;
+    CursorPage<PostSummary> getAllPostsByUserId(Long id, String cursor, int limit) throws UserNotFoundException, PostNotFoundException;
 
 
 
@@ -1,11 +1,11 @@
 package org.example.application.port.input;
 
 import org.example.domain.exceptions.PostNotFoundException;
-import org.example.domain.models.Post;
+import org.example.domain.models.PostView;
 
 public interface ViewPostUseCase {
 
-    Post viewPost(Long id) throws PostNotFoundException;
+    PostView viewPost(Long id) throws PostNotFoundException;
 
 
 }
@@ -0,0 +1,10 @@
+package org.example.application.port.input;
+
+import org.example.domain.models.TrendingPost;
+
+import java.util.List;
+
+public interface ViewTrendingPostsUseCase {
+
+    List<TrendingPost> getTrendingPosts(int limit);
+}
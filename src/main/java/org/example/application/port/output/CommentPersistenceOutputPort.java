@@ -1,17 +1,23 @@
 package org.example.application.port.output;
 
 import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface CommentPersistenceOutputPort {
 
-    Comment saveComment(Comment comment);
+    Comment saveCommentOnPost(Comment comment, Long userId, Long postId) throws PostNotFoundException;
 
-    List<Comment> getAllCommentsByPostId(Long id);
+    CursorPage<CommentSummary> getCommentsByPostId(Long id, String cursor, int limit);
 
-    void deleteCommentById(Long id);
+    void streamCommentsByPostId(Long id, Consumer<CommentSummary> consumer);
+
+    // false when the comment was already gone
+    boolean deleteCommentById(Long id);
 
     Comment getCommentByIdAndPostId(Long commentId, Long postId) throws CommentNotFoundException;
 
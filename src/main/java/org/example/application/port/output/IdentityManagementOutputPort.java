@@ -7,11 +7,16 @@ import org.example.domain.exceptions.UserAlreadyExistException;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.User;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IdentityManagementOutputPort {
 
     User createUser(User user) throws IdentityManagerException, UserAlreadyExistException;
+
+    Map<String, String> createUsers(List<User> users) throws IdentityManagerException;
+
     boolean doesUserExist(String email);
 
 //    void deleteUser(User user) throws UserNotFoundException;
@@ -0,0 +1,24 @@
+package org.example.application.port.output;
+
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.Post;
+
+public interface PostCacheOutputPort {
+
+    Post getPost(Long id, PostLoader loader) throws PostNotFoundException;
+
+    String getContent(Long id, ContentLoader loader) throws PostNotFoundException;
+
+    // drops the post and its content
+    void evictPost(Long id);
+
+    @FunctionalInterface
+    interface PostLoader {
+        Post load(Long id) throws PostNotFoundException;
+    }
+
+    @FunctionalInterface
+    interface ContentLoader {
+        String load(Long id) throws PostNotFoundException;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.application.port.output;
+
+import org.example.domain.models.CursorPage;
+import org.example.domain.models.PostSummary;
+
+import java.util.Optional;
+
+public interface PostFeedOutputPort {
+
+    // empty when the page reaches past what is held in memory
+    Optional<CursorPage<PostSummary>> getLatestPosts(String cursor, int limit);
+
+    void putPost(PostSummary post);
+
+    void removePost(Long id);
+
+    void updateCommentCount(Long id, long commentCount);
+}
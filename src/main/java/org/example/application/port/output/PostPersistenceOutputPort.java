@@ -1,23 +1,37 @@
 package org.example.application.port.output;
 
+import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.PostSummary;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostPersistenceOutputPort {
 
-    Post savePost(Post post);
+    Post savePost(Post post) throws PostAlreadyExistsException;
 
 
     void deletePost(Post post);
 
+    // without content; the body is only read by getPostContent
     Post getPostById(Long id) throws PostNotFoundException;
 
+    String getPostContent(Long id) throws PostNotFoundException;
+
+    List<PostSummary> getPostSummaries(Collection<Long> ids);
+
     boolean existsById(Long id);
 
-    boolean existsByTitleAndUserId(String title, Long id);
+    CursorPage<PostSummary> getPostsByUserId(Long id, String cursor, int limit);
+
+    CursorPage<PostSummary> searchPosts(String query, String cursor, int limit);
+
+    CursorPage<PostSummary> getLatestPosts(String cursor, int limit);
 
-    List<Post> getAllPostByUserId(Long id);
+    // returns the post's new comment count
+    long adjustCommentCount(Long postId, long delta);
 
 }
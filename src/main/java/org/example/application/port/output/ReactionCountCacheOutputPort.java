@@ -0,0 +1,10 @@
+package org.example.application.port.output;
+
+import org.example.domain.models.ReactionTarget;
+
+public interface ReactionCountCacheOutputPort {
+
+    long getCount(ReactionTarget target, Long targetId);
+
+    void adjustCount(ReactionTarget target, Long targetId, long delta);
+}
@@ -0,0 +1,21 @@
+package org.example.application.port.output;
+
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionCount;
+import org.example.domain.models.ReactionTarget;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionPersistenceOutputPort {
+
+    // false when the user had already reacted; the target is checked in the same statement as the insert
+    boolean saveReaction(Long userId, ReactionTarget target, Long targetId) throws PostNotFoundException, CommentNotFoundException;
+
+    // false when there was no reaction to remove
+    boolean deleteReaction(Long userId, ReactionTarget target, Long targetId);
+
+    // targets nobody reacted to are left out
+    List<ReactionCount> countReactions(ReactionTarget target, Collection<Long> targetIds);
+}
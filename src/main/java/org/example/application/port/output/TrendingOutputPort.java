@@ -0,0 +1,14 @@
+package org.example.application.port.output;
+
+import org.example.domain.models.PostScore;
+
+import java.util.List;
+
+public interface TrendingOutputPort {
+
+    void recordView(Long postId);
+
+    void recordComment(Long postId);
+
+    List<PostScore> getTopPosts(int limit);
+}
@@ -3,15 +3,24 @@ package org.example.application.port.output;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.User;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface UserPersistenceOutputPort {
 
     User saveUser(User user);
+
+    List<User> saveUsers(List<User> users);
+
     User getUserById(Long id) throws UserNotFoundException;
 
     User getUserByEmail(String email) throws UserNotFoundException;
 
     boolean userExistsByEmail(String email);
 
+    Set<String> findExistingEmails(Collection<String> emails);
+
     boolean existsById(Long id);
 
 }
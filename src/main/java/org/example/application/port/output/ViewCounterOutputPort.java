@@ -0,0 +1,7 @@
+package org.example.application.port.output;
+
+public interface ViewCounterOutputPort {
+
+    // counts one view and returns the post's total including it
+    long recordView(Long postId, long persistedViews);
+}
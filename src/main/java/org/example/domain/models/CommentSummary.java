@@ -0,0 +1,6 @@
+package org.example.domain.models;
+
+import java.time.LocalDateTime;
+
+public record CommentSummary(Long id, String content, LocalDateTime commentedAt) {
+}
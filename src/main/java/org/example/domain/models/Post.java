@@ -17,5 +17,7 @@ public class Post {
     private LocalDateTime editedAt;
     private List<Comment> comments;
     private LocalDateTime updatedDate;
+    private long viewCount;
+    private long commentCount;
 
 }
@@ -0,0 +1,4 @@
+package org.example.domain.models;
+
+public record PostScore(Long postId, long score) {
+}
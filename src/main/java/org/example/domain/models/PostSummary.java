@@ -0,0 +1,16 @@
+package org.example.domain.models;
+
+import java.time.LocalDateTime;
+
+// content holds at most the first EXCERPT_LENGTH characters; the full text comes with the post itself
+public record PostSummary(Long id, String title, String content, LocalDateTime publishedDate, long commentCount) {
+
+    public static final int EXCERPT_LENGTH = 300;
+
+    public static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH || content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.domain.models;
+
+// post comes from the cache without its body; content is read for this view only
+public record PostView(Post post, String content, long viewCount) {
+}
@@ -0,0 +1,4 @@
+package org.example.domain.models;
+
+public record ReactionCount(Long targetId, Long count) {
+}
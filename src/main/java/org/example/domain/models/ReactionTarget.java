@@ -0,0 +1,6 @@
+package org.example.domain.models;
+
+public enum ReactionTarget {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,6 @@
+package org.example.domain.models;
+
+import java.time.LocalDateTime;
+
+public record TrendingPost(Long id, String title, String content, LocalDateTime publishedDate, long commentCount, long score) {
+}
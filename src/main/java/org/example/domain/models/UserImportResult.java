@@ -0,0 +1,32 @@
+package org.example.domain.models;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class UserImportResult {
+    private long row;
+    private String email;
+    private boolean imported;
+    private Long userId;
+    private String message;
+
+    public static UserImportResult imported(long row, User user) {
+        UserImportResult result = new UserImportResult();
+        result.setRow(row);
+        result.setEmail(user.getEmail());
+        result.setImported(true);
+        result.setUserId(user.getId());
+        return result;
+    }
+
+    public static UserImportResult failed(long row, String email, String message) {
+        UserImportResult result = new UserImportResult();
+        result.setRow(row);
+        result.setEmail(email);
+        result.setImported(false);
+        result.setMessage(message);
+        return result;
+    }
+}
@@ -5,19 +5,26 @@ import org.example.application.port.input.CommentOnPostUseCase;
 import org.example.application.port.input.DeleteCommentUseCase;
 import org.example.application.port.input.ViewAllPostCommentUseCase;
 import org.example.application.port.output.CommentPersistenceOutputPort;
+import org.example.application.port.output.PostCacheOutputPort;
+import org.example.application.port.output.PostFeedOutputPort;
 import org.example.application.port.output.PostPersistenceOutputPort;
-import org.example.application.port.output.UserPersistenceOutputPort;
+import org.example.application.port.output.TrendingOutputPort;
 import org.example.domain.exceptions.CommentNotFoundException;
 import org.example.domain.exceptions.PostNotFoundException;
-import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.Comment;
-import org.example.domain.models.Post;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.User;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.function.Consumer;
 
 import static org.example.domain.validator.InputValidator.validateInput;
 
@@ -26,33 +33,51 @@ import static org.example.domain.validator.InputValidator.validateInput;
 public class CommentService implements CommentOnPostUseCase, ViewAllPostCommentUseCase, DeleteCommentUseCase {
 
     private final PostPersistenceOutputPort postPersistenceOutputPort;
-    private final UserPersistenceOutputPort userPersistenceOutputPort;
     private final CommentPersistenceOutputPort commentPersistenceOutputPort;
+    private final TrendingOutputPort trendingOutputPort;
+    private final PostCacheOutputPort postCacheOutputPort;
+    private final PostFeedOutputPort postFeedOutputPort;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize = 100;
 
 
     @Override
+    @Transactional(rollbackFor = PostNotFoundException.class)
     public Comment writeComment(Comment comment,  User user, Long postId)
-            throws PostNotFoundException, UserNotFoundException {
+            throws PostNotFoundException {
         validateInput(comment.getContent());
-        User foundUser = userPersistenceOutputPort.getUserById(user.getId());
-
-        Post post = postPersistenceOutputPort.getPostById(postId);
 
         comment.setCommentedAt(LocalDateTime.now());
-        comment.setPost(post);
-        comment.setUser(foundUser);
+        comment.setUser(user);
+
+        Comment savedComment = commentPersistenceOutputPort.saveCommentOnPost(comment, user.getId(), postId);
+        updateCommentCount(postId, 1);
+        afterCommit(() -> trendingOutputPort.recordComment(postId));
+        return savedComment;
+    }
 
-        return commentPersistenceOutputPort.saveComment(comment);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CommentSummary> viewAllPostCommentsByPostId(Long postId, String cursor, int limit) throws PostNotFoundException {
+        if (!postPersistenceOutputPort.existsById(postId)) {
+            throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+        }
+        return commentPersistenceOutputPort.getCommentsByPostId(postId, cursor, Math.max(1, Math.min(limit, maxPageSize)));
     }
 
     @Override
-    public List<Comment> viewAllPostCommentsByPostId(Long postId) throws PostNotFoundException {
-        Post post = postPersistenceOutputPort.getPostById(postId);
-        return commentPersistenceOutputPort.getAllCommentsByPostId(post.getId());
+    @Transactional(readOnly = true)
+    public void streamAllPostCommentsByPostId(Long postId, Consumer<CommentSummary> consumer) throws PostNotFoundException {
+        if (!postPersistenceOutputPort.existsById(postId)) {
+            throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+        }
+        commentPersistenceOutputPort.streamCommentsByPostId(postId, consumer);
     }
 
 
     @Override
+    @Transactional
     public void deleteComment(Long commentId, Long postId, User user)
             throws CommentNotFoundException, AccessDeniedException {
 
@@ -65,9 +90,32 @@ public class CommentService implements CommentOnPostUseCase, ViewAllPostCommentU
             throw new AccessDeniedException("You are not allowed to delete this comment");
         }
 
-        commentPersistenceOutputPort.deleteCommentById(comment.getId());
+        // a concurrent delete of the same comment must not count it twice
+        if (commentPersistenceOutputPort.deleteCommentById(comment.getId())) {
+            updateCommentCount(postId, -1);
+        }
     }
 
+    // in the comment's transaction, so the count commits or rolls back with it; the cached copies
+    // follow only after commit, or a concurrent view could cache the old count again
+    private void updateCommentCount(Long postId, long delta) {
+        long commentCount = postPersistenceOutputPort.adjustCommentCount(postId, delta);
+        afterCommit(() -> {
+            postCacheOutputPort.evictPost(postId);
+            postFeedOutputPort.updateCommentCount(postId, commentCount);
+        });
+    }
 
-
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -2,47 +2,76 @@ package org.example.domain.services;
 
 import lombok.RequiredArgsConstructor;
 import org.example.application.port.input.*;
+import org.example.application.port.output.PostCacheOutputPort;
+import org.example.application.port.output.PostFeedOutputPort;
 import org.example.application.port.output.PostPersistenceOutputPort;
+import org.example.application.port.output.TrendingOutputPort;
+import org.example.application.port.output.ViewCounterOutputPort;
 import org.example.application.port.output.UserPersistenceOutputPort;
 import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.PostScore;
+import org.example.domain.models.PostSummary;
+import org.example.domain.models.PostView;
+import org.example.domain.models.TrendingPost;
 import org.example.domain.models.User;
 import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.example.domain.validator.InputValidator.validateInput;
 
 @Service
 @RequiredArgsConstructor
-public class PostService implements CreatePostUseCase, DeletePostUseCase, EditPostUseCase, ViewPostUseCase, ViewAllPostUseCase {
+public class PostService implements CreatePostUseCase, DeletePostUseCase, EditPostUseCase, ViewPostUseCase, ViewAllPostUseCase, SearchPostsUseCase, ViewFeedUseCase, ViewTrendingPostsUseCase {
 
 
     private final UserPersistenceOutputPort userPersistenceOutputPort;
 
     private final PostPersistenceOutputPort postPersistenceOutputPort;
 
+    private final PostCacheOutputPort postCacheOutputPort;
+
+    private final PostFeedOutputPort postFeedOutputPort;
+
+    private final TrendingOutputPort trendingOutputPort;
+
+    private final ViewCounterOutputPort viewCounterOutputPort;
+
+    @Value("${app.pagination.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    @Value("${app.search.max-query-length:200}")
+    private int maxSearchQueryLength = 200;
+
+    @Value("${app.posts.max-content-length:100000}")
+    private int maxContentLength = 100000;
+
     @Override
-    public Post createPost(User user, Post post) throws PostAlreadyExistsException, UserNotFoundException {
+    public Post createPost(User user, Post post) throws PostAlreadyExistsException {
         validateInput(post.getTitle());
         validateInput(post.getContent());
-
-        if (!userPersistenceOutputPort.existsById(user.getId())) {
-            throw new UserNotFoundException(ErrorMessages.USER_NOT_FOUND);
-        }
-
-        if (postPersistenceOutputPort.existsByTitleAndUserId(post.getTitle(), user.getId())) {
-            throw new PostAlreadyExistsException(ErrorMessages.POST_ALREADY_EXIST);
-        }
+        validateContentLength(post.getContent());
 
         post.setUser(user);
-        post.setPublishedDate(LocalDateTime.now());
-        return postPersistenceOutputPort.savePost(post);
+        // postgres stores microseconds; keep the in-memory feed in step with the stored value
+        post.setPublishedDate(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        Post savedPost = postPersistenceOutputPort.savePost(post);
+        postCacheOutputPort.evictPost(savedPost.getId());
+        postFeedOutputPort.putPost(toSummary(savedPost));
+        return savedPost;
     }
 
 
@@ -61,13 +90,16 @@ public class PostService implements CreatePostUseCase, DeletePostUseCase, EditPo
         }
 
         postPersistenceOutputPort.deletePost(postFromDb);
+        postCacheOutputPort.evictPost(id);
+        postFeedOutputPort.removePost(id);
     }
 
 
     @Override
-    public Post editPost(User user, Post updatedPost) throws UserNotFoundException, PostNotFoundException, AccessDeniedException {
+    public Post editPost(User user, Post updatedPost) throws UserNotFoundException, PostNotFoundException, AccessDeniedException, PostAlreadyExistsException {
         validateInput(updatedPost.getTitle());
         validateInput(updatedPost.getContent());
+        validateContentLength(updatedPost.getContent());
 
         if (!userPersistenceOutputPort.existsById(user.getId())) {
             throw new UserNotFoundException(ErrorMessages.USER_NOT_FOUND);
@@ -83,27 +115,82 @@ public class PostService implements CreatePostUseCase, DeletePostUseCase, EditPo
         postFromDb.setContent(updatedPost.getContent());
         postFromDb.setUpdatedDate(LocalDateTime.now());
 
-        return postPersistenceOutputPort.savePost(postFromDb);
+        Post savedPost = postPersistenceOutputPort.savePost(postFromDb);
+        postCacheOutputPort.evictPost(savedPost.getId());
+        postFeedOutputPort.putPost(toSummary(savedPost));
+        return savedPost;
     }
 
     @Override
-    public Post viewPost(Long id) throws PostNotFoundException {
-        return postPersistenceOutputPort.getPostById(id);
+    @Transactional(readOnly = true)
+    public PostView viewPost(Long id) throws PostNotFoundException {
+        Post post = postCacheOutputPort.getPost(id, postPersistenceOutputPort::getPostById);
+        String content = postCacheOutputPort.getContent(id, postPersistenceOutputPort::getPostContent);
+        trendingOutputPort.recordView(id);
+        return new PostView(post, content, viewCounterOutputPort.recordView(id, post.getViewCount()));
 
     }
 
     @Override
-    public List<Post> getAllPostsByUserId(Long id) throws UserNotFoundException, PostNotFoundException {
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getAllPostsByUserId(Long id, String cursor, int limit) throws UserNotFoundException, PostNotFoundException {
         if (!userPersistenceOutputPort.existsById(id)) {
             throw new UserNotFoundException(ErrorMessages.USER_NOT_FOUND);
         }
 
-        List<Post> posts = postPersistenceOutputPort.getAllPostByUserId(id);
+        CursorPage<PostSummary> posts = postPersistenceOutputPort.getPostsByUserId(id, cursor, Math.max(1, Math.min(limit, maxPageSize)));
 
-        if (posts.isEmpty()) {
+        if (cursor == null && posts.getItems().isEmpty()) {
             throw new PostNotFoundException("No posts found for this user");
         }
 
         return posts;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> searchPosts(String query, String cursor, int limit) {
+        validateInput(query);
+        if (query.length() > maxSearchQueryLength) {
+            throw new IllegalArgumentException(ErrorMessages.SEARCH_QUERY_TOO_LONG);
+        }
+        return postPersistenceOutputPort.searchPosts(query.strip(), cursor, Math.max(1, Math.min(limit, maxPageSize)));
+    }
+
+    @Override
+    public CursorPage<PostSummary> getFeed(String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        return postFeedOutputPort.getLatestPosts(cursor, pageSize)
+                .orElseGet(() -> postPersistenceOutputPort.getLatestPosts(cursor, pageSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendingPost> getTrendingPosts(int limit) {
+        List<PostScore> scores = trendingOutputPort.getTopPosts(Math.max(1, Math.min(limit, maxPageSize)));
+        Map<Long, PostSummary> summaries = new HashMap<>();
+        postPersistenceOutputPort.getPostSummaries(scores.stream().map(PostScore::postId).toList())
+                .forEach(summary -> summaries.put(summary.id(), summary));
+
+        List<TrendingPost> trending = new ArrayList<>();
+        for (PostScore score : scores) {
+            PostSummary post = summaries.get(score.postId());
+            // a post deleted since it was ranked drops out when the window slides
+            if (post != null) {
+                trending.add(new TrendingPost(post.id(), post.title(), post.content(), post.publishedDate(), post.commentCount(), score.score()));
+            }
+        }
+        return trending;
+    }
+
+    private void validateContentLength(String content) {
+        if (content.length() > maxContentLength) {
+            throw new IllegalArgumentException(ErrorMessages.POST_CONTENT_TOO_LONG);
+        }
+    }
+
+    private static PostSummary toSummary(Post post) {
+        return new PostSummary(post.getId(), post.getTitle(), PostSummary.excerpt(post.getContent()), post.getPublishedDate(),
+                post.getCommentCount());
+    }
 }
@@ -0,0 +1,41 @@
+package org.example.domain.services;
+
+import lombok.RequiredArgsConstructor;
+import org.example.application.port.input.ReactionUseCase;
+import org.example.application.port.output.ReactionCountCacheOutputPort;
+import org.example.application.port.output.ReactionPersistenceOutputPort;
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionTarget;
+import org.example.domain.models.User;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ReactionService implements ReactionUseCase {
+
+    private final ReactionPersistenceOutputPort reactionPersistenceOutputPort;
+    private final ReactionCountCacheOutputPort reactionCountCacheOutputPort;
+
+    @Override
+    public long react(User user, ReactionTarget target, Long targetId) throws PostNotFoundException, CommentNotFoundException {
+        // reacting twice is a no-op, so only a new reaction moves the count
+        if (reactionPersistenceOutputPort.saveReaction(user.getId(), target, targetId)) {
+            reactionCountCacheOutputPort.adjustCount(target, targetId, 1);
+        }
+        return reactionCountCacheOutputPort.getCount(target, targetId);
+    }
+
+    @Override
+    public long removeReaction(User user, ReactionTarget target, Long targetId) {
+        if (reactionPersistenceOutputPort.deleteReaction(user.getId(), target, targetId)) {
+            reactionCountCacheOutputPort.adjustCount(target, targetId, -1);
+        }
+        return reactionCountCacheOutputPort.getCount(target, targetId);
+    }
+
+    @Override
+    public long getReactionCount(ReactionTarget target, Long targetId) {
+        return reactionCountCacheOutputPort.getCount(target, targetId);
+    }
+}
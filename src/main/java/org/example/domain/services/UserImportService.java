@@ -0,0 +1,174 @@
+package org.example.domain.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.input.BulkSignUpUseCase;
+import org.example.application.port.output.IdentityManagementOutputPort;
+import org.example.application.port.output.UserPersistenceOutputPort;
+import org.example.domain.exceptions.IdentityManagerException;
+import org.example.domain.models.User;
+import org.example.domain.models.UserImportResult;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.example.domain.validator.InputValidator.validateInput;
+
+@Slf4j
+@Service
+public class UserImportService implements BulkSignUpUseCase {
+
+    @Autowired
+    private UserPersistenceOutputPort userPersistenceOutputPort;
+
+    @Autowired
+    private IdentityManagementOutputPort identityManagementOutputPort;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${app.users.import.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.users.import.hashing-threads:4}")
+    private int hashingThreads;
+
+    private ExecutorService passwordHashingExecutor;
+
+    @PostConstruct
+    void startHashingPool() {
+        passwordHashingExecutor = Executors.newFixedThreadPool(hashingThreads);
+    }
+
+    @PreDestroy
+    void stopHashingPool() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Override
+    public void signUpAll(Stream<User> users, Consumer<UserImportResult> results) {
+        List<User> batch = new ArrayList<>(batchSize);
+        long firstRow = 1;
+
+        Iterator<User> iterator = users.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == batchSize) {
+                importBatch(batch, firstRow, results);
+                firstRow += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, firstRow, results);
+        }
+    }
+
+    private void importBatch(List<User> users, long firstRow, Consumer<UserImportResult> results) {
+        UserImportResult[] outcomes = new UserImportResult[users.size()];
+        Map<String, Integer> pending = new LinkedHashMap<>();
+
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            try {
+                validate(user);
+            } catch (IllegalArgumentException e) {
+                outcomes[i] = UserImportResult.failed(firstRow + i, user.getEmail(), e.getMessage());
+                continue;
+            }
+            if (pending.putIfAbsent(normalize(user.getEmail()), i) != null) {
+                outcomes[i] = UserImportResult.failed(firstRow + i, user.getEmail(), ErrorMessages.USER_EXISTS_ALREADY);
+            }
+        }
+
+        Set<String> existingEmails = new HashSet<>();
+        userPersistenceOutputPort.findExistingEmails(pending.values().stream().map(i -> users.get(i).getEmail()).toList())
+                .forEach(email -> existingEmails.add(normalize(email)));
+        pending.values().removeIf(i -> {
+            if (existingEmails.contains(normalize(users.get(i).getEmail()))) {
+                outcomes[i] = UserImportResult.failed(firstRow + i, users.get(i).getEmail(), ErrorMessages.USER_EXISTS_ALREADY);
+                return true;
+            }
+            return false;
+        });
+
+        if (!pending.isEmpty()) {
+            createUsers(users, pending, firstRow, outcomes);
+        }
+
+        for (UserImportResult outcome : outcomes) {
+            results.accept(outcome);
+        }
+    }
+
+    private void createUsers(List<User> users, Map<String, Integer> pending, long firstRow, UserImportResult[] outcomes) {
+        CompletableFuture.allOf(pending.values().stream()
+                .map(users::get)
+                .map(user -> CompletableFuture.runAsync(
+                        () -> user.setPassword(passwordEncoder.encode(user.getPassword())), passwordHashingExecutor))
+                .toArray(CompletableFuture[]::new)).join();
+
+        Map<String, String> keycloakIds;
+        try {
+            keycloakIds = identityManagementOutputPort.createUsers(pending.values().stream().map(users::get).toList());
+        } catch (IdentityManagerException e) {
+            log.error("Bulk identity provisioning failed: {}", e.getMessage());
+            pending.values().forEach(i -> outcomes[i] = UserImportResult.failed(firstRow + i, users.get(i).getEmail(), e.getMessage()));
+            return;
+        }
+
+        List<User> createdUsers = new ArrayList<>();
+        pending.forEach((email, i) -> {
+            User user = users.get(i);
+            String keycloakId = keycloakIds.get(email);
+            if (keycloakId == null) {
+                outcomes[i] = UserImportResult.failed(firstRow + i, user.getEmail(), ErrorMessages.USER_EXISTS_ALREADY);
+                return;
+            }
+            user.setKeycloakId(keycloakId);
+            user.setEnabled(true);
+            createdUsers.add(user);
+        });
+
+        if (createdUsers.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (User savedUser : userPersistenceOutputPort.saveUsers(createdUsers)) {
+                int i = pending.get(normalize(savedUser.getEmail()));
+                outcomes[i] = UserImportResult.imported(firstRow + i, savedUser);
+            }
+            log.info("Imported {} users starting at row {}", createdUsers.size(), firstRow);
+        } catch (RuntimeException e) {
+            log.error("Saving imported users failed", e);
+            createdUsers.forEach(user -> {
+                int i = pending.get(normalize(user.getEmail()));
+                outcomes[i] = UserImportResult.failed(firstRow + i, user.getEmail(), "Failed to save user");
+            });
+        }
+    }
+
+    private static void validate(User user) {
+        validateInput(user.getEmail());
+        validateInput(user.getUsername());
+        validateInput(user.getFirstName());
+        validateInput(user.getLastName());
+        validateInput(user.getPassword());
+        validateInput(user.getRole());
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -6,6 +6,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.application.port.output.UserPersistenceOutputPort;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.User;
+import org.example.infrastructure.adapters.config.security.AuthenticatedUserCache;
+import org.example.infrastructure.adapters.config.security.TokenAuthoritiesCache;
+import org.example.infrastructure.adapters.config.security.TokenAuthoritiesCache.ResolvedToken;
 import org.example.infrastructure.adapters.config.security.UserAwareJwtAuthenticationToken;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -27,29 +30,25 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     private final UserPersistenceOutputPort userPersistenceOutputPort;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TokenAuthoritiesCache tokenAuthoritiesCache;
     private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
 
+    // not read-only, so a cache miss reads the primary: a user who has just signed up is not on the
+    // replicas yet, and nothing pins an unauthenticated signup's reads to the primary
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
         try {
 //            log.info("Converting JWT token. Subject: {}", jwt.getSubject());
 //            log.info("JWT Claims: {}", jwt.getClaims().keySet());
 
-            String userIdentifier = getUserIdentifierFromJwt(jwt);
-//            log.info("Extracted user identifier: {}", userIdentifier);
+            ResolvedToken resolvedToken = tokenAuthoritiesCache.get(jwt, this::resolveToken);
 
-            User user = userPersistenceOutputPort.getUserByEmail(userIdentifier);
+            User user = authenticatedUserCache.get(resolvedToken.userIdentifier(), userPersistenceOutputPort::getUserByEmail);
             log.info("Found user: {}", user.getEmail());
 
-            Collection<GrantedAuthority> authorities = Stream.concat(
-                    jwtGrantedAuthoritiesConverter.convert(jwt).stream(),
-                    extractResourceRoles(jwt).stream()
-            ).collect(Collectors.toSet());
-
-            log.info("Granted authorities: {}", authorities);
-
-            return new UserAwareJwtAuthenticationToken(jwt, authorities, user);
+            return new UserAwareJwtAuthenticationToken(jwt, resolvedToken.authorities(), user);
 
         } catch (UserNotFoundException e) {
             log.error("User not found during JWT conversion", e);
@@ -60,6 +59,17 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
         }
     }
 
+    private ResolvedToken resolveToken(Jwt jwt) {
+        Set<GrantedAuthority> authorities = Stream.concat(
+                jwtGrantedAuthoritiesConverter.convert(jwt).stream(),
+                extractResourceRoles(jwt).stream()
+        ).collect(Collectors.toUnmodifiableSet());
+
+        log.info("Granted authorities: {}", authorities);
+
+        return new ResolvedToken(getUserIdentifierFromJwt(jwt), authorities, jwt.getExpiresAt());
+    }
+
     private String getUserIdentifierFromJwt(Jwt jwt) {
         String email = jwt.getClaim("email");
         if (email != null) {
@@ -0,0 +1,61 @@
+package org.example.infrastructure.adapters.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             @Value("${app.datasource.replica.urls}") List<String> urls,
+                                                             @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+                                                             @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password,
+                                                             @Value("${app.datasource.replica.connection-timeout:2s}") Duration connectionTimeout,
+                                                             @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+                                                             @Value("${app.datasource.replica.health-check-interval:5s}") Duration healthCheckInterval,
+                                                             @Value("${app.datasource.replica.read-your-writes-window:10s}") Duration readYourWritesWindow) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            // a replica that is down at startup is just left out of rotation
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, healthCheckInterval, readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // the transaction's read-only flag is only known once it has started, so defer picking a target until the first statement
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
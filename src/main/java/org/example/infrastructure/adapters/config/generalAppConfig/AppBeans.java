@@ -11,7 +11,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppBeans {
@@ -26,11 +25,6 @@ public class AppBeans {
         return new BCryptPasswordEncoder();
 
     }
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
     @Bean
     public IdentityManagementOutputPort identityManagementOutputPort(Keycloak keycloak) {
         return new KeycloakAdapter(keycloak);
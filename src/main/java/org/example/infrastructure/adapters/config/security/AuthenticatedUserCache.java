@@ -0,0 +1,70 @@
+package org.example.infrastructure.adapters.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.exceptions.UserNotFoundException;
+import org.example.domain.models.User;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationHandler;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class AuthenticatedUserCache implements CacheInvalidationHandler {
+
+    private final Cache<String, User> users;
+
+    public AuthenticatedUserCache(MeterRegistry meterRegistry,
+                                  @Value("${app.cache.authenticated-users.maximum-size:10000}") long maximumSize,
+                                  @Value("${app.cache.authenticated-users.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "authenticatedUsers");
+    }
+
+    public User get(String identifier, UserLoader loader) throws UserNotFoundException {
+        User user = users.getIfPresent(identifier);
+        if (user != null) {
+            return user;
+        }
+        user = loader.load(identifier);
+        users.put(identifier, user);
+        return user;
+    }
+
+    public void evict(User user) {
+        if (user.getEmail() != null) {
+            users.invalidate(user.getEmail());
+        }
+        if (user.getUsername() != null) {
+            users.invalidate(user.getUsername());
+        }
+        log.debug("Evicted cached authenticated user: {}", user.getEmail());
+    }
+
+    @Override
+    public void evict(CachedEntity entity, Long id) {
+        if (entity == CachedEntity.USER) {
+            users.asMap().values().removeIf(user -> id.equals(user.getId()));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        users.invalidateAll();
+    }
+
+    @FunctionalInterface
+    public interface UserLoader {
+        User load(String identifier) throws UserNotFoundException;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.infrastructure.adapters.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+@Component
+public class TokenAuthoritiesCache {
+
+    private final Cache<String, ResolvedToken> tokens;
+    private final Duration maximumTimeToLive;
+
+    public TokenAuthoritiesCache(MeterRegistry meterRegistry,
+                                 @Value("${app.cache.token-authorities.maximum-size:50000}") long maximumSize,
+                                 @Value("${app.cache.token-authorities.maximum-time-to-live:10m}") Duration maximumTimeToLive) {
+        this.maximumTimeToLive = maximumTimeToLive;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String key, ResolvedToken token) -> timeToLive(token)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "tokenAuthorities");
+    }
+
+    public ResolvedToken get(Jwt jwt, Function<Jwt, ResolvedToken> resolver) {
+        return tokens.get(keyFor(jwt), key -> resolver.apply(jwt));
+    }
+
+    private Duration timeToLive(ResolvedToken token) {
+        if (token.expiresAt() == null) {
+            return maximumTimeToLive;
+        }
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maximumTimeToLive) < 0 ? remaining : maximumTimeToLive;
+    }
+
+    private static String keyFor(Jwt jwt) {
+        if (jwt.getId() != null) {
+            return jwt.getId();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(jwt.getTokenValue().getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record ResolvedToken(String userIdentifier,
+                                Collection<GrantedAuthority> authorities,
+                                Instant expiresAt) {
+    }
+}
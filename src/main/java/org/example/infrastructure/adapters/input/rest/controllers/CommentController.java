@@ -1,5 +1,7 @@
 package org.example.infrastructure.adapters.input.rest.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.application.port.input.CommentOnPostUseCase;
@@ -16,22 +19,27 @@ import org.example.domain.exceptions.CommentNotFoundException;
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
 import org.example.domain.models.User;
 import org.example.infrastructure.adapters.input.rest.data.request.CommentRequest;
 import org.example.infrastructure.adapters.input.rest.data.response.CommentResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.CursorPageResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.DeleteCommentResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.DeletePostResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.ViewAllUserPostResponse;
 import org.example.infrastructure.adapters.input.rest.mapper.CommentRestMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/comments")
@@ -43,6 +51,7 @@ public class CommentController {
     private final CommentRestMapper commentRestMapper;
     private final ViewAllPostCommentUseCase viewAllPostCommentUseCase;
     private final DeleteCommentUseCase deleteCommentUseCase;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Add a comment to a post", description = "Creates a comment on a specific post")
     @ApiResponses({
@@ -62,19 +71,46 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(commentRestMapper.toCommentResponse(savedComment));
     }
 
-    @Operation(summary = "View all comments on a post", description = "Retrieves all comments for a specific post")
+    @Operation(summary = "View all comments on a post", description = "Retrieves comments for a specific post, oldest first. Pass the returned nextCursor to get the following page")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Comments retrieved", content = @Content(schema = @Schema(implementation = CommentResponse.class))),
+            @ApiResponse(responseCode = "200", description = "Comments retrieved", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
             @ApiResponse(responseCode = "404", description = "Post not found")
     })
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> viewAllPostComments(@PathVariable("postId") Long postId)
+    public ResponseEntity<CursorPageResponse<CommentResponse>> viewAllPostComments(@PathVariable("postId") Long postId,
+                                                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                   @RequestParam(value = "limit", defaultValue = "50") int limit)
             throws PostNotFoundException {
-        List<Comment> comments = viewAllPostCommentUseCase.viewAllPostCommentsByPostId(postId);
-        List<CommentResponse> responseList = comments.stream()
+        CursorPage<CommentSummary> comments = viewAllPostCommentUseCase.viewAllPostCommentsByPostId(postId, cursor, limit);
+
+        CursorPageResponse<CommentResponse> response = new CursorPageResponse<>();
+        response.setItems(comments.getItems().stream()
                 .map(commentRestMapper::toViewAllPostCommentResponse)
-                .toList();
-        return ResponseEntity.ok(responseList);
+                .toList());
+        response.setNextCursor(comments.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Stream all comments on a post", description = "Writes every comment for a specific post as a single JSON array, oldest first, without buffering them in memory")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Comments streamed", content = @Content(schema = @Schema(implementation = CommentResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Post not found")
+    })
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamAllPostComments(@PathVariable("postId") Long postId, HttpServletResponse response)
+            throws PostNotFoundException, IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.writeStartArray();
+        viewAllPostCommentUseCase.streamAllPostCommentsByPostId(postId, comment -> {
+            try {
+                generator.writeObject(commentRestMapper.toViewAllPostCommentResponse(comment));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.close();
     }
 
 
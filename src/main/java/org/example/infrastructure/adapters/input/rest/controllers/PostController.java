@@ -13,7 +13,10 @@ import org.example.application.port.input.*;
 import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.PostSummary;
+import org.example.domain.models.PostView;
 import org.example.domain.models.User;
 import org.example.infrastructure.adapters.input.rest.data.request.CreatePostRequest;
 import org.example.infrastructure.adapters.input.rest.data.request.EditPostRequest;
@@ -41,6 +44,9 @@ public class PostController {
     private final PostRestMapper postRestMapper;
     private final ViewPostUseCase viewPostUseCase;
     private final ViewAllPostUseCase viewAllPostUseCase;
+    private final SearchPostsUseCase searchPostsUseCase;
+    private final ViewFeedUseCase viewFeedUseCase;
+    private final ViewTrendingPostsUseCase viewTrendingPostsUseCase;
 
     @Operation(summary = "Create a post", description = "Allows authenticated users to create a new post")
     @ApiResponses({
@@ -111,30 +117,86 @@ public class PostController {
     @GetMapping("/{postId}")
     public ResponseEntity<ViewPostResponse> viewPost(@PathVariable("postId") Long postId)
             throws PostNotFoundException {
-        Post post = viewPostUseCase.viewPost(postId);
+        PostView postView = viewPostUseCase.viewPost(postId);
+        Post post = postView.post();
 
         ViewPostResponse response = new ViewPostResponse();
         response.setId(post.getId());
         response.setTitle(post.getTitle());
-        response.setContent(post.getContent());
+        response.setContent(postView.content());
         response.setCreatedAt(post.getPublishedDate());
+        response.setViewCount(postView.viewCount());
+        response.setCommentCount(post.getCommentCount());
 
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all posts by user", description = "Fetch all posts created by a specific user")
+    @Operation(summary = "Get all posts by user", description = "Fetch posts created by a specific user, newest first. Pass the returned nextCursor to get the following page")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Posts retrieved", content = @Content(schema = @Schema(implementation = ViewAllUserPostResponse.class))),
+            @ApiResponse(responseCode = "200", description = "Posts retrieved", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
             @ApiResponse(responseCode = "404", description = "User or posts not found")
     })
     @GetMapping("/user/{id}")
-    public ResponseEntity<List<ViewAllUserPostResponse>> viewAllUserPost(@PathVariable("id") Long id)
+    public ResponseEntity<CursorPageResponse<ViewAllUserPostResponse>> viewAllUserPost(@PathVariable("id") Long id,
+                                                                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                       @RequestParam(value = "limit", defaultValue = "20") int limit)
             throws UserNotFoundException, PostNotFoundException {
-        List<Post> posts = viewAllPostUseCase.getAllPostsByUserId(id);
-        List<ViewAllUserPostResponse> responseList = posts.stream()
+        CursorPage<PostSummary> posts = viewAllPostUseCase.getAllPostsByUserId(id, cursor, limit);
+
+        CursorPageResponse<ViewAllUserPostResponse> response = new CursorPageResponse<>();
+        response.setItems(posts.getItems().stream()
                 .map(postRestMapper::toViewAllUserPostResponse)
-                .toList();
-        return ResponseEntity.ok(responseList);
+                .toList());
+        response.setNextCursor(posts.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Search posts", description = "Full-text search over post titles and content, best matches first. Pass the returned nextCursor to get the following page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching posts retrieved", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Search query is empty or too long")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<SearchPostResponse>> searchPosts(@RequestParam("q") String query,
+                                                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                                                              @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPage<PostSummary> posts = searchPostsUseCase.searchPosts(query, cursor, limit);
+
+        CursorPageResponse<SearchPostResponse> response = new CursorPageResponse<>();
+        response.setItems(posts.getItems().stream()
+                .map(postRestMapper::toSearchPostResponse)
+                .toList());
+        response.setNextCursor(posts.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Latest posts feed", description = "Fetch the most recent posts from all users, newest first. Pass the returned nextCursor to get the following page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Posts retrieved", content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Invalid cursor")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<FeedPostResponse>> viewFeed(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                         @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPage<PostSummary> posts = viewFeedUseCase.getFeed(cursor, limit);
+
+        CursorPageResponse<FeedPostResponse> response = new CursorPageResponse<>();
+        response.setItems(posts.getItems().stream()
+                .map(postRestMapper::toFeedPostResponse)
+                .toList());
+        response.setNextCursor(posts.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Trending posts", description = "Fetch the posts with the most views and comments over the recent window, highest score first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trending posts retrieved", content = @Content(schema = @Schema(implementation = TrendingPostResponse.class)))
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostResponse>> viewTrendingPosts(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(viewTrendingPostsUseCase.getTrendingPosts(limit).stream()
+                .map(postRestMapper::toTrendingPostResponse)
+                .toList());
     }
 }
 
@@ -0,0 +1,98 @@
+package org.example.infrastructure.adapters.input.rest.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.application.port.input.ReactionUseCase;
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionTarget;
+import org.example.domain.models.User;
+import org.example.infrastructure.adapters.input.rest.data.response.ReactionResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Reactions", description = "Liking posts and comments")
+public class ReactionController {
+
+    private final ReactionUseCase reactionUseCase;
+
+    @Operation(summary = "Like a post", description = "Adds the current user's reaction to a post. Liking a post twice has no further effect")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reaction saved", content = @Content(schema = @Schema(implementation = ReactionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Post not found")
+    })
+    @SecurityRequirement(name = "Keycloak")
+    @PutMapping("/posts/{postId}/reactions")
+    public ResponseEntity<ReactionResponse> reactToPost(@PathVariable("postId") Long postId,
+                                                        @AuthenticationPrincipal User user)
+            throws PostNotFoundException, CommentNotFoundException {
+        long count = reactionUseCase.react(user, ReactionTarget.POST, postId);
+        return ResponseEntity.ok(new ReactionResponse(postId, count));
+    }
+
+    @Operation(summary = "Remove a like from a post", description = "Removes the current user's reaction to a post, if any")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reaction removed", content = @Content(schema = @Schema(implementation = ReactionResponse.class)))
+    })
+    @SecurityRequirement(name = "Keycloak")
+    @DeleteMapping("/posts/{postId}/reactions")
+    public ResponseEntity<ReactionResponse> removePostReaction(@PathVariable("postId") Long postId,
+                                                               @AuthenticationPrincipal User user) {
+        long count = reactionUseCase.removeReaction(user, ReactionTarget.POST, postId);
+        return ResponseEntity.ok(new ReactionResponse(postId, count));
+    }
+
+    @Operation(summary = "Count likes on a post", description = "Returns the number of reactions to a post. The count may lag other nodes by a few seconds")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Count retrieved", content = @Content(schema = @Schema(implementation = ReactionResponse.class)))
+    })
+    @GetMapping("/posts/{postId}/reactions")
+    public ResponseEntity<ReactionResponse> getPostReactions(@PathVariable("postId") Long postId) {
+        return ResponseEntity.ok(new ReactionResponse(postId, reactionUseCase.getReactionCount(ReactionTarget.POST, postId)));
+    }
+
+    @Operation(summary = "Like a comment", description = "Adds the current user's reaction to a comment. Liking a comment twice has no further effect")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reaction saved", content = @Content(schema = @Schema(implementation = ReactionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Comment not found")
+    })
+    @SecurityRequirement(name = "Keycloak")
+    @PutMapping("/comments/{commentId}/reactions")
+    public ResponseEntity<ReactionResponse> reactToComment(@PathVariable("commentId") Long commentId,
+                                                           @AuthenticationPrincipal User user)
+            throws PostNotFoundException, CommentNotFoundException {
+        long count = reactionUseCase.react(user, ReactionTarget.COMMENT, commentId);
+        return ResponseEntity.ok(new ReactionResponse(commentId, count));
+    }
+
+    @Operation(summary = "Remove a like from a comment", description = "Removes the current user's reaction to a comment, if any")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reaction removed", content = @Content(schema = @Schema(implementation = ReactionResponse.class)))
+    })
+    @SecurityRequirement(name = "Keycloak")
+    @DeleteMapping("/comments/{commentId}/reactions")
+    public ResponseEntity<ReactionResponse> removeCommentReaction(@PathVariable("commentId") Long commentId,
+                                                                  @AuthenticationPrincipal User user) {
+        long count = reactionUseCase.removeReaction(user, ReactionTarget.COMMENT, commentId);
+        return ResponseEntity.ok(new ReactionResponse(commentId, count));
+    }
+
+    @Operation(summary = "Count likes on a comment", description = "Returns the number of reactions to a comment. The count may lag other nodes by a few seconds")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Count retrieved", content = @Content(schema = @Schema(implementation = ReactionResponse.class)))
+    })
+    @GetMapping("/comments/{commentId}/reactions")
+    public ResponseEntity<ReactionResponse> getCommentReactions(@PathVariable("commentId") Long commentId) {
+        return ResponseEntity.ok(new ReactionResponse(commentId, reactionUseCase.getReactionCount(ReactionTarget.COMMENT, commentId)));
+    }
+}
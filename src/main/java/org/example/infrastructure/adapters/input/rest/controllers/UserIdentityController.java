@@ -8,9 +8,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.input.BulkSignUpUseCase;
 import org.example.application.port.input.LoginUseCase;
 import org.example.application.port.input.LogoutUseCase;
 import org.example.application.port.input.SignUpUseCase;
@@ -20,12 +24,24 @@ import org.example.infrastructure.adapters.input.rest.data.request.LoginUserRequ
 import org.example.infrastructure.adapters.input.rest.data.request.RegisterUserRequest;
 import org.example.infrastructure.adapters.input.rest.data.response.LoginUserResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.RegisterUserResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.UserImportResponse;
 import org.example.infrastructure.adapters.input.rest.mapper.UserRestMapper;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,6 +54,8 @@ public class UserIdentityController {
     private final LoginUseCase loginUseCase;
     private final UserRestMapper userRestMapper;
     private final LogoutUseCase logoutUseCase;
+    private final BulkSignUpUseCase bulkSignUpUseCase;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Register a new user", description = "Creates a new user account")
     @ApiResponses({
@@ -65,6 +83,48 @@ public class UserIdentityController {
                 .body(response);
     }
 
+    @Operation(summary = "Bulk register users", description = "Registers users from an NDJSON stream and streams back one result per line")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import processed; see per-row results", content = @Content(schema = @Schema(implementation = UserImportResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+    })
+    @SecurityRequirement(name = "Keycloak")
+    @PreAuthorize("hasRole('admin')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request) {
+        StreamingResponseBody body = outputStream -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+                 Stream<User> users = reader.lines().map(this::toImportedUser)) {
+                bulkSignUpUseCase.signUpAll(users, result -> writeLine(outputStream, userRestMapper.toUserImportResponse(result)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private User toImportedUser(String line) {
+        try {
+            RegisterUserRequest registerRequest = objectMapper.readValue(line, RegisterUserRequest.class);
+            User user = userRestMapper.toUser(registerRequest);
+            user.setPassword(registerRequest.getPassword());
+            return user;
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed import line: {}", e.getOriginalMessage());
+            return new User();
+        }
+    }
+
+    private void writeLine(OutputStream outputStream, UserImportResponse response) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(response));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Operation(summary = "User login", description = "Authenticates a user and returns a JWT token")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User authenticated successfully", content = @Content(schema = @Schema(implementation = LoginUserResponse.class))),
@@ -0,0 +1,14 @@
+package org.example.infrastructure.adapters.input.rest.data.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+}
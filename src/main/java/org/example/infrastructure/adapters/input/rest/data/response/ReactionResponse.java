@@ -0,0 +1,16 @@
+package org.example.infrastructure.adapters.input.rest.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionResponse {
+
+    private Long targetId;
+    private long count;
+}
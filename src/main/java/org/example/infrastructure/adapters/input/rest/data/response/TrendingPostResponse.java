@@ -0,0 +1,18 @@
+package org.example.infrastructure.adapters.input.rest.data.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+public class TrendingPostResponse {
+
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDateTime publishedDate;
+    private long score;
+    private long commentCount;
+}
@@ -0,0 +1,14 @@
+package org.example.infrastructure.adapters.input.rest.data.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class UserImportResponse {
+    private long row;
+    private String email;
+    private boolean imported;
+    private Long userId;
+    private String message;
+}
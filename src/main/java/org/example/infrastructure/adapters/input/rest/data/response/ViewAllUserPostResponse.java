@@ -13,5 +13,5 @@ public class ViewAllUserPostResponse {
     private String title;
     private String content;
     private LocalDateTime publishedDate;
+    private long commentCount;
 }
-
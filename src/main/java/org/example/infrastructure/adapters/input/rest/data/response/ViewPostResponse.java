@@ -13,4 +13,6 @@ public class ViewPostResponse {
     private String title;
     private String content;
     private LocalDateTime createdAt;
+    private long viewCount;
+    private long commentCount;
 }
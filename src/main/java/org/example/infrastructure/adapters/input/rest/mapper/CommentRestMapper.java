@@ -2,6 +2,7 @@ package org.example.infrastructure.adapters.input.rest.mapper;
 
 import jakarta.validation.Valid;
 import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
 import org.example.infrastructure.adapters.input.rest.data.request.CommentRequest;
 import org.example.infrastructure.adapters.input.rest.data.response.CommentResponse;
 import org.mapstruct.Mapper;
@@ -13,5 +14,5 @@ public interface CommentRestMapper {
 
     CommentResponse toCommentResponse(Comment savedComment);
 
-    CommentResponse toViewAllPostCommentResponse(Comment comment);
+    CommentResponse toViewAllPostCommentResponse(CommentSummary comment);
 }
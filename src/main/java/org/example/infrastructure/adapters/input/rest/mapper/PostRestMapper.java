@@ -1,10 +1,15 @@
 package org.example.infrastructure.adapters.input.rest.mapper;
 
 import org.example.domain.models.Post;
+import org.example.domain.models.PostSummary;
+import org.example.domain.models.TrendingPost;
 import org.example.infrastructure.adapters.input.rest.data.request.CreatePostRequest;
 import org.example.infrastructure.adapters.input.rest.data.request.EditPostRequest;
 import org.example.infrastructure.adapters.input.rest.data.response.CreatePostResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.EditPostResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.FeedPostResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.SearchPostResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.TrendingPostResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.ViewAllUserPostResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -26,6 +31,12 @@ public interface PostRestMapper {
     EditPostResponse toEditPostResponse(Post post);
 
     @Mapping(target = "publishedDate", source = "publishedDate")
-    ViewAllUserPostResponse toViewAllUserPostResponse(Post post);
+    ViewAllUserPostResponse toViewAllUserPostResponse(PostSummary post);
+
+    SearchPostResponse toSearchPostResponse(PostSummary post);
+
+    FeedPostResponse toFeedPostResponse(PostSummary post);
+
+    TrendingPostResponse toTrendingPostResponse(TrendingPost post);
 
 }
@@ -1,10 +1,12 @@
 package org.example.infrastructure.adapters.input.rest.mapper;
 
 import org.example.domain.models.User;
+import org.example.domain.models.UserImportResult;
 import org.example.infrastructure.adapters.input.rest.data.request.LoginUserRequest;
 import org.example.infrastructure.adapters.input.rest.data.request.RegisterUserRequest;
 import org.example.infrastructure.adapters.input.rest.data.response.LoginUserResponse;
 import org.example.infrastructure.adapters.input.rest.data.response.RegisterUserResponse;
+import org.example.infrastructure.adapters.input.rest.data.response.UserImportResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -26,5 +28,7 @@ public interface UserRestMapper {
 
     User toUser(LoginUserRequest loginUserRequest);
 
+    UserImportResponse toUserImportResponse(UserImportResult userImportResult);
+
 
 }
@@ -8,4 +8,7 @@ public class ErrorMessages {
     public static final String POST_NOT_FOUND = "Post not found";
     public static final String POST_ALREADY_EXIST = "Post already exists";
     public static final String COMMENT_NOT_FOUND = "Comment not found";
+    public static final String INVALID_CURSOR = "Invalid page cursor";
+    public static final String SEARCH_QUERY_TOO_LONG = "Search query is too long";
+    public static final String POST_CONTENT_TOO_LONG = "Post content is too long";
 }
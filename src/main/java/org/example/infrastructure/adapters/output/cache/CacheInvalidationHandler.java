@@ -0,0 +1,8 @@
+package org.example.infrastructure.adapters.output.cache;
+
+public interface CacheInvalidationHandler {
+
+    void evict(CachedEntity entity, Long id);
+
+    void evictAll();
+}
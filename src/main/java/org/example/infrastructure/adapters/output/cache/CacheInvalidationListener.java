@@ -0,0 +1,168 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher.EVENT_SEPARATOR;
+import static org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher.ID_SEPARATOR;
+import static org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher.NODE_SEPARATOR;
+
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+    private static final int POLL_TIMEOUT_MILLIS = 10_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final List<CacheInvalidationHandler> handlers;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     List<CacheInvalidationHandler> handlers,
+                                     @Value("${app.cache.invalidation.enabled:true}") boolean enabled,
+                                     @Value("${app.cache.invalidation.channel:cache_invalidation}") String channel,
+                                     @Value("${app.cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.handlers = handlers;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Cross-node cache invalidation is disabled");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+        while (running) {
+            try (Connection listening = connect()) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN \"" + channel + "\"");
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+                if (reconnected) {
+                    // anything published while we were disconnected is lost, so start from empty caches
+                    evictAll();
+                }
+                reconnected = true;
+
+                PGConnection pgConnection = listening.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting in {}", reconnectDelay, e);
+                    sleep(reconnectDelay);
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("ApplicationName", "cache-invalidation-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    void handle(String payload) {
+        int nodeEnd = payload.indexOf(NODE_SEPARATOR);
+        if (nodeEnd < 0) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (payload.substring(0, nodeEnd).equals(cacheInvalidationPublisher.getNodeId())) {
+            return;
+        }
+        for (String event : payload.substring(nodeEnd + 1).split(String.valueOf(EVENT_SEPARATOR))) {
+            int idStart = event.indexOf(ID_SEPARATOR);
+            try {
+                CachedEntity entity = CachedEntity.valueOf(event.substring(0, idStart));
+                Long id = Long.valueOf(event.substring(idStart + 1));
+                handlers.forEach(handler -> handler.evict(entity, id));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                log.warn("Ignoring malformed cache invalidation event: {}", event);
+            }
+        }
+    }
+
+    private void evictAll() {
+        handlers.forEach(CacheInvalidationHandler::evictAll);
+        log.info("Cleared local caches after the cache invalidation listener reconnected");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close cache invalidation listener connection", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    static final char NODE_SEPARATOR = '|';
+    static final char EVENT_SEPARATOR = ',';
+    static final char ID_SEPARATOR = ':';
+
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      @Value("${app.cache.invalidation.channel:cache_invalidation}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+    public void publish(CachedEntity entity, Long id) {
+        String event = entity.name() + ID_SEPARATOR + id;
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            pendingEvents().add(event);
+            return;
+        }
+        try {
+            send(List.of(event));
+        } catch (DataAccessException e) {
+            log.warn("Could not publish cache invalidation {}, other nodes will serve it until it expires", event, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pendingEvents() {
+        Set<String> events = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (events != null) {
+            return events;
+        }
+        Set<String> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // sent on the transaction's own connection: Postgres delivers it only if the commit succeeds
+                send(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+            }
+        });
+        return created;
+    }
+
+    private void send(Collection<String> events) {
+        StringBuilder payload = new StringBuilder(nodeId).append(NODE_SEPARATOR);
+        int emptyLength = payload.length();
+        for (String event : events) {
+            if (payload.length() + event.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                notify(payload.toString());
+                payload.setLength(emptyLength);
+            }
+            if (payload.length() > emptyLength) {
+                payload.append(EVENT_SEPARATOR);
+            }
+            payload.append(event);
+        }
+        if (payload.length() > emptyLength) {
+            notify(payload.toString());
+        }
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("select pg_notify(?, ?)", (ResultSetExtractor<Void>) resultSet -> null, channel, payload);
+        log.debug("Published cache invalidation: {}", payload);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.infrastructure.adapters.output.cache;
+
+public enum CachedEntity {
+    POST,
+    COMMENT,
+    USER
+}
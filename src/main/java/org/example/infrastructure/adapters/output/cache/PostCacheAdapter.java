@@ -0,0 +1,127 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.output.PostCacheOutputPort;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.Post;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class PostCacheAdapter implements PostCacheOutputPort, CacheInvalidationHandler {
+
+    private final Cache<Long, Optional<Post>> posts;
+    // bodies are kept apart from the posts and bounded by their size, since one body can outweigh thousands of posts
+    private final Cache<Long, Optional<String>> contents;
+    private final Cache<Long, Boolean> recentlyEvicted;
+
+    public PostCacheAdapter(MeterRegistry meterRegistry,
+                            @Value("${app.cache.posts.maximum-size:10000}") long maximumSize,
+                            @Value("${app.cache.posts.expire-after-write:1m}") Duration expireAfterWrite,
+                            @Value("${app.cache.posts.missing-expire-after-write:30s}") Duration missingExpireAfterWrite,
+                            @Value("${app.cache.post-contents.maximum-weight:64MB}") DataSize contentsMaximumWeight,
+                            @Value("${app.datasource.replica.max-lag:5s}") Duration replicaMaxLag) {
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(replicaMaxLag)
+                .build();
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PostExpiry<Post>(expireAfterWrite, missingExpireAfterWrite, replicaMaxLag, recentlyEvicted))
+                .recordStats()
+                .build();
+        this.contents = Caffeine.newBuilder()
+                .maximumWeight(contentsMaximumWeight.toBytes())
+                // two bytes a char, whatever the string's actual coder
+                .<Long, Optional<String>>weigher((id, content) -> content.map(String::length).orElse(0) * 2)
+                .expireAfter(new PostExpiry<String>(expireAfterWrite, missingExpireAfterWrite, replicaMaxLag, recentlyEvicted))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "posts");
+        CaffeineCacheMetrics.monitor(meterRegistry, contents, "post-contents");
+    }
+
+    @Override
+    public Post getPost(Long id, PostLoader loader) throws PostNotFoundException {
+        Optional<Post> post = posts.get(id, key -> load(key, loader));
+        return post.orElseThrow(() -> new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
+    }
+
+    @Override
+    public String getContent(Long id, ContentLoader loader) throws PostNotFoundException {
+        Optional<String> content = contents.get(id, key -> loadContent(key, loader));
+        return content.orElseThrow(() -> new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
+    }
+
+    @Override
+    public void evictPost(Long id) {
+        recentlyEvicted.put(id, Boolean.TRUE);
+        posts.invalidate(id);
+        contents.invalidate(id);
+        log.debug("Evicted cached post: {}", id);
+    }
+
+    @Override
+    public void evict(CachedEntity entity, Long id) {
+        if (entity == CachedEntity.POST) {
+            evictPost(id);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        posts.invalidateAll();
+        contents.invalidateAll();
+    }
+
+    private Optional<Post> load(Long id, PostLoader loader) {
+        try {
+            return Optional.of(loader.load(id));
+        } catch (PostNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> loadContent(Long id, ContentLoader loader) {
+        try {
+            return Optional.of(loader.load(id));
+        } catch (PostNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record PostExpiry<V>(Duration found, Duration missing, Duration replicaMaxLag,
+                              Cache<Long, Boolean> recentlyEvicted) implements Expiry<Long, Optional<V>> {
+
+        @Override
+        public long expireAfterCreate(Long id, Optional<V> value, long currentTime) {
+            Duration expiry = value.isPresent() ? found : missing;
+            // a load right after a write may have been served by a replica that has not replayed it yet
+            if (recentlyEvicted.getIfPresent(id) != null && replicaMaxLag.compareTo(expiry) < 0) {
+                expiry = replicaMaxLag;
+            }
+            return expiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long id, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
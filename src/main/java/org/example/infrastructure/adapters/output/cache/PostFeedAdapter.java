@@ -0,0 +1,228 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.output.PostFeedOutputPort;
+import org.example.domain.models.CursorPage;
+import org.example.domain.models.PostSummary;
+import org.example.infrastructure.adapters.output.persistence.pagination.KeysetCursor;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Newest posts across all authors, newest first. Everything published after the oldest
+// entry is held, so any page that ends inside the ring can be served without the database.
+@Slf4j
+@Component
+public class PostFeedAdapter implements PostFeedOutputPort, CacheInvalidationHandler {
+
+    private final PostRepository postRepository;
+    private final PostSummary[] ring;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter memoryPages;
+    private final Counter databasePages;
+
+    private int head;
+    private int size;
+    // true while the ring holds every post, so running off its end means the feed has ended
+    private boolean complete;
+    private boolean seeded;
+
+    public PostFeedAdapter(PostRepository postRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.feed.capacity:1000}") int capacity) {
+        this.postRepository = postRepository;
+        this.ring = new PostSummary[capacity];
+        this.memoryPages = meterRegistry.counter("feed.pages", "source", "memory");
+        this.databasePages = meterRegistry.counter("feed.pages", "source", "database");
+    }
+
+    // Holds the write lock across the query so a write committed meanwhile is applied after it, not lost.
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        lock.writeLock().lock();
+        try {
+            List<PostSummary> latest = postRepository.findLatestPosts(Limit.of(ring.length));
+            Arrays.fill(ring, null);
+            head = 0;
+            size = 0;
+            latest.forEach(post -> ring[size++] = post);
+            complete = latest.size() < ring.length;
+            seeded = true;
+            log.info("Post feed seeded with {} posts", size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<CursorPage<PostSummary>> getLatestPosts(String cursor, int limit) {
+        KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor);
+        lock.readLock().lock();
+        try {
+            int from = after == null ? 0 : indexOlderThan(after.timestamp(), after.id());
+            int available = seeded ? size - from : 0;
+            if (available <= limit && !complete) {
+                databasePages.increment();
+                return Optional.empty();
+            }
+
+            List<PostSummary> posts = new ArrayList<>(Math.min(limit, available));
+            for (int i = from; i < from + Math.min(limit, available); i++) {
+                posts.add(get(i));
+            }
+            String nextCursor = null;
+            if (available > limit) {
+                PostSummary last = posts.get(limit - 1);
+                nextCursor = new KeysetCursor(last.publishedDate(), last.id()).encode();
+            }
+            memoryPages.increment();
+            return Optional.of(new CursorPage<>(posts, nextCursor));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void putPost(PostSummary post) {
+        lock.writeLock().lock();
+        try {
+            int existing = indexOf(post.id());
+            if (existing >= 0 && get(existing).publishedDate().equals(post.publishedDate())) {
+                set(existing, post);
+                return;
+            }
+            if (existing >= 0) {
+                removeAt(existing);
+            }
+
+            int at = indexOlderThan(post.publishedDate(), post.id());
+            // older than everything held: keeping it would leave a gap before it
+            if (at == size && (!complete || size == ring.length)) {
+                complete = complete && size < ring.length;
+                return;
+            }
+            if (size == ring.length) {
+                removeAt(size - 1);
+                complete = false;
+            }
+            insertAt(at, post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removePost(Long id) {
+        lock.writeLock().lock();
+        try {
+            int existing = indexOf(id);
+            if (existing >= 0) {
+                removeAt(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateCommentCount(Long id, long commentCount) {
+        lock.writeLock().lock();
+        try {
+            int existing = indexOf(id);
+            if (existing >= 0) {
+                PostSummary post = get(existing);
+                set(existing, new PostSummary(post.id(), post.title(), post.content(), post.publishedDate(), commentCount));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Another node changed the post; reload it from the primary rather than a possibly lagging replica.
+    @Override
+    @Transactional
+    public void evict(CachedEntity entity, Long id) {
+        if (entity == CachedEntity.POST) {
+            postRepository.findSummaryById(id).ifPresentOrElse(this::putPost, () -> removePost(id));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        seed();
+    }
+
+    // first position holding a post older than (publishedDate, id), or size when there is none
+    private int indexOlderThan(LocalDateTime publishedDate, Long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            PostSummary post = get(mid);
+            int compared = post.publishedDate().compareTo(publishedDate);
+            if (compared < 0 || (compared == 0 && post.id() < id)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(Long id) {
+        for (int i = 0; i < size; i++) {
+            if (get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insertAt(int index, PostSummary post) {
+        if (index == 0) {
+            head = Math.floorMod(head - 1, ring.length);
+            ring[head] = post;
+        } else {
+            for (int i = size; i > index; i--) {
+                set(i, get(i - 1));
+            }
+            set(index, post);
+        }
+        size++;
+    }
+
+    private void removeAt(int index) {
+        if (index == 0) {
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                set(i, get(i + 1));
+            }
+            set(size - 1, null);
+        }
+        size--;
+    }
+
+    private PostSummary get(int index) {
+        return ring[(head + index) % ring.length];
+    }
+
+    private void set(int index, PostSummary post) {
+        ring[(head + index) % ring.length] = post;
+    }
+}
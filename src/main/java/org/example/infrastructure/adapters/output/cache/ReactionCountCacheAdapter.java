@@ -0,0 +1,125 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.output.ReactionCountCacheOutputPort;
+import org.example.application.port.output.ReactionPersistenceOutputPort;
+import org.example.domain.models.ReactionCount;
+import org.example.domain.models.ReactionTarget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Reaction totals served from memory. This node's own reactions adjust the cached sum right
+// away; a periodic pass re-sums the shards of every cached target to pick up other nodes.
+@Slf4j
+@Component
+public class ReactionCountCacheAdapter implements ReactionCountCacheOutputPort, CacheInvalidationHandler {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final ReactionPersistenceOutputPort reactionPersistenceOutputPort;
+    private final Duration reconcileInterval;
+    private final LoadingCache<ReactionKey, Long> counts;
+    private ScheduledExecutorService reconciler;
+
+    public ReactionCountCacheAdapter(ReactionPersistenceOutputPort reactionPersistenceOutputPort,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.cache.reaction-counts.maximum-size:10000}") long maximumSize,
+                                     @Value("${app.cache.reaction-counts.expire-after-access:10m}") Duration expireAfterAccess,
+                                     @Value("${app.cache.reaction-counts.reconcile-interval:10s}") Duration reconcileInterval) {
+        this.reactionPersistenceOutputPort = reactionPersistenceOutputPort;
+        this.reconcileInterval = reconcileInterval;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build(key -> reactionPersistenceOutputPort.countReactions(key.target(), List.of(key.targetId())).stream()
+                        .mapToLong(ReactionCount::count)
+                        .sum());
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "reactionCounts");
+    }
+
+    @PostConstruct
+    void start() {
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reaction-count-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        reconciler.shutdownNow();
+    }
+
+    @Override
+    public long getCount(ReactionTarget target, Long targetId) {
+        return counts.get(new ReactionKey(target, targetId));
+    }
+
+    // call after the reaction is committed; an uncached target is loaded with it on the next read
+    @Override
+    public void adjustCount(ReactionTarget target, Long targetId, long delta) {
+        counts.asMap().computeIfPresent(new ReactionKey(target, targetId), (key, count) -> count + delta);
+    }
+
+    // one grouped query per batch of cached targets instead of one per target
+    public void reconcile() {
+        Map<ReactionTarget, List<Long>> cached = new EnumMap<>(ReactionTarget.class);
+        counts.asMap().keySet().forEach(key -> cached.computeIfAbsent(key.target(), target -> new ArrayList<>()).add(key.targetId()));
+
+        cached.forEach((target, targetIds) -> {
+            for (int from = 0; from < targetIds.size(); from += RECONCILE_BATCH_SIZE) {
+                List<Long> batch = targetIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, targetIds.size()));
+                Map<Long, Long> sums = new HashMap<>();
+                reactionPersistenceOutputPort.countReactions(target, batch).forEach(count -> sums.put(count.targetId(), count.count()));
+                // a reaction made between the query and this write is picked up by the next pass
+                batch.forEach(targetId -> counts.asMap().computeIfPresent(new ReactionKey(target, targetId),
+                        (key, count) -> sums.getOrDefault(targetId, 0L)));
+            }
+        });
+        log.debug("Reconciled {} reaction counts", counts.estimatedSize());
+    }
+
+    @Override
+    public void evict(CachedEntity entity, Long id) {
+        if (entity == CachedEntity.POST) {
+            counts.invalidate(new ReactionKey(ReactionTarget.POST, id));
+        } else if (entity == CachedEntity.COMMENT) {
+            counts.invalidate(new ReactionKey(ReactionTarget.COMMENT, id));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        counts.invalidateAll();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile reaction counts: {}", e.getMessage());
+        }
+    }
+
+    private record ReactionKey(ReactionTarget target, Long targetId) {
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.infrastructure.adapters.output.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.infrastructure.adapters.output.persistence.entity.CommentEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SecondLevelCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidationHandler(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void evict(CachedEntity entity, Long id) {
+        Class<?> entityClass = switch (entity) {
+            case POST -> PostEntity.class;
+            case COMMENT -> CommentEntity.class;
+            case USER -> UserEntity.class;
+        };
+        cache.evictEntityData(entityClass, id);
+        // a remote write does not touch this node's update timestamps, so cached query results must go too
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void evictAll() {
+        cache.evictAllRegions();
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.infrastructure.adapters.output.comments;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationHandler;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Walks post_entity in id order and rewrites comment_count wherever it no longer matches
+// comment_entity, e.g. after a manual delete or a write that bypassed CommentService.
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    // The lock conflicts with the in-place increment, so a comment write that already adjusted the
+    // count is committed before the recount runs. One that has not is counted as it was (an insert not
+    // yet visible, a delete not yet applied) and its adjustment lands on the repaired value. It does not
+    // conflict with the key-share lock a comment insert holds on its post, so the two cannot deadlock.
+    private static final String LOCK_POSTS = """
+            select id from post_entity
+            where id > ?
+            order by id
+            limit ?
+            for no key update""";
+
+    private static final String REPAIR_COUNTS = """
+            update post_entity p
+            set comment_count = actual.total
+            from (select post.id, count(comment.id) as total
+                  from post_entity post
+                  left join comment_entity comment on comment.post_id = post.id
+                  where post.id = any(?)
+                  group by post.id) actual
+            where p.id = actual.id
+              and p.comment_count <> actual.total
+            returning p.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final List<CacheInvalidationHandler> cacheInvalidationHandlers;
+    private final Duration reconcileInterval;
+    private final int batchSize;
+    private ScheduledExecutorService reconciler;
+
+    public CommentCountReconciler(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  CacheInvalidationPublisher cacheInvalidationPublisher,
+                                  List<CacheInvalidationHandler> cacheInvalidationHandlers,
+                                  @Value("${app.comment-counts.reconcile-interval:15m}") Duration reconcileInterval,
+                                  @Value("${app.comment-counts.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheInvalidationHandlers = cacheInvalidationHandlers;
+        this.reconcileInterval = reconcileInterval;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "comment-count-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        reconciler.shutdownNow();
+    }
+
+    // one short transaction per batch, so commenters wait on at most one batch of locked posts
+    public synchronized int reconcile() {
+        List<Long> repaired = new ArrayList<>();
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> batch = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(LOCK_POSTS, Long.class, from, batchSize);
+                if (!ids.isEmpty()) {
+                    repaired.addAll(jdbcTemplate.query(REPAIR_COUNTS, statement -> {
+                        Array idArray = statement.getConnection().createArrayOf("bigint", ids.toArray());
+                        statement.setArray(1, idArray);
+                    }, (resultSet, row) -> resultSet.getLong(1)));
+                }
+                return ids;
+            });
+            if (batch == null || batch.size() < batchSize) {
+                break;
+            }
+            after = batch.get(batch.size() - 1);
+        }
+
+        for (Long postId : repaired) {
+            cacheInvalidationHandlers.forEach(handler -> handler.evict(CachedEntity.POST, postId));
+            cacheInvalidationPublisher.publish(CachedEntity.POST, postId);
+        }
+        if (!repaired.isEmpty()) {
+            log.info("Repaired comment counts for {} posts", repaired.size());
+        }
+        return repaired.size();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile comment counts: {}", e.getMessage());
+        }
+    }
+}
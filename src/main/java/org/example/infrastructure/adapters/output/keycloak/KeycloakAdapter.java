@@ -1,6 +1,7 @@
 package org.example.infrastructure.adapters.output.keycloak;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.common.util.StringUtils;
 import jakarta.ws.rs.core.Response;
@@ -16,10 +17,10 @@ import org.example.infrastructure.adapters.input.rest.data.response.LoginUserRes
 import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import org.example.infrastructure.adapters.output.mapper.UserMapper;
 import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.resource.RolesResource;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
+import org.keycloak.representations.idm.PartialImportRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -62,6 +63,12 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserEmailBloomFilter userEmailBloomFilter;
+
+    @Autowired
+    private KeycloakRoleCache keycloakRoleCache;
+
     private final Keycloak keycloak;
 
 
@@ -71,25 +78,25 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
             throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY);
         }
         UserRepresentation userRepresentation = createUserRepresentation(user);
-        log.info("Using realm: {}", keycloak.realm(realm).toRepresentation().getRealm());
         try (Response response = getUserResource().create(userRepresentation)) {
-            log.info("Keycloak user creation response status: {}, body: {}", response.getStatus(), response.readEntity(String.class));
+            String responseBody = response.hasEntity() ? response.readEntity(String.class) : null;
+            log.info("Keycloak user creation response status: {}, body: {}", response.getStatus(), responseBody);
             log.info("Sent to Keycloak: {}", userRepresentation);
 
             if (response.getStatus() == Response.Status.CREATED.getStatusCode()) {
                 String userId = response.getLocation().getPath().replaceAll(".*/([^/]+)$", "$1");
-                UserRepresentation createdUser = getUserById(userId).toRepresentation();
-                log.info("Created user enabled: {}, emailVerified: {}", createdUser.isEnabled(), createdUser.isEmailVerified());
+                log.info("Created user {} in realm {}", userId, realm);
                 assignRole(userId, user.getRole());
                 user.setKeycloakId(userId);
+                userEmailBloomFilter.put(user.getEmail());
                 return user;
             } else {
-                String errorMessage = response.readEntity(String.class);
-                log.error("Keycloak user creation failed. Status: {}, Error: {}", response.getStatus(), errorMessage);
+                log.error("Keycloak user creation failed. Status: {}, Error: {}", response.getStatus(), responseBody);
                 if (response.getStatus() == Response.Status.CONFLICT.getStatusCode()) {
+                    userEmailBloomFilter.put(user.getEmail());
                     throw new UserAlreadyExistException(ErrorMessages.USER_EXISTS_ALREADY);
                 } else {
-                    throw new IdentityManagerException("Failed to create user in Keycloak: " + errorMessage);
+                    throw new IdentityManagerException("Failed to create user in Keycloak: " + responseBody);
                 }
             }
         }
@@ -97,16 +104,47 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
 
 
+    @Override
+    public Map<String, String> createUsers(List<User> users) throws IdentityManagerException {
+        PartialImportRepresentation partialImport = new PartialImportRepresentation();
+        partialImport.setIfResourceExists(PartialImportRepresentation.Policy.SKIP.name());
+        partialImport.setUsers(users.stream()
+                .map(user -> {
+                    UserRepresentation userRepresentation = createUserRepresentation(user);
+                    userRepresentation.setRealmRoles(List.of(user.getRole()));
+                    return userRepresentation;
+                })
+                .toList());
+
+        try (Response response = keycloak.realm(realm).partialImport(partialImport)) {
+            String responseBody = response.readEntity(String.class);
+            if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                log.error("Keycloak partial import failed. Status: {}, Error: {}", response.getStatus(), responseBody);
+                throw new IdentityManagerException("Failed to import users into Keycloak: " + responseBody);
+            }
+
+            Map<String, String> createdUserIds = new HashMap<>();
+            for (JsonNode result : objectMapper.readTree(responseBody).path("results")) {
+                if ("ADDED".equals(result.path("action").asText()) && "USER".equals(result.path("resourceType").asText())) {
+                    createdUserIds.put(result.path("resourceName").asText().toLowerCase(Locale.ROOT), result.path("id").asText());
+                }
+            }
+            createdUserIds.keySet().forEach(userEmailBloomFilter::put);
+            log.info("Imported {} of {} users into realm {}", createdUserIds.size(), users.size(), realm);
+            return createdUserIds;
+        } catch (JsonProcessingException e) {
+            log.error("Error parsing Keycloak partial import response: ", e);
+            throw new IdentityManagerException("Failed to process Keycloak import results");
+        }
+    }
+
     @Override
     public boolean doesUserExist(String email) {
         validateInput(email);
-        List<UserRepresentation> userRepresentations = getUserResource().list();
-        for (UserRepresentation user : userRepresentations) {
-            if (user.getUsername().equals(email)) {
-                return true;
-            }
+        if (!userEmailBloomFilter.mightContain(email)) {
+            return false;
         }
-        return false;
+        return !getUserResource().searchByUsername(email, true).isEmpty();
     }
 
 //    @Override
@@ -221,16 +259,8 @@ public class KeycloakAdapter implements IdentityManagementOutputPort {
 
 
     private void assignRole(String userId, String role) throws IdentityManagerException {
-        UserResource usersResource = getUserById(userId);
-        RoleRepresentation roleRepresentation = getRolesResource().get(role).toRepresentation();
-        if (roleRepresentation == null) {
-            throw new IdentityManagerException("Role '" + role + "' does not exist");
-        }
-        usersResource.roles().realmLevel().add(Collections.singletonList(roleRepresentation));
-    }
-
-    private RolesResource getRolesResource() {
-        return keycloak.realm(realm).roles();
+        RoleRepresentation roleRepresentation = keycloakRoleCache.getRole(role);
+        getUserById(userId).roles().realmLevel().add(Collections.singletonList(roleRepresentation));
     }
 
     private UserResource getUserById(String userId) {
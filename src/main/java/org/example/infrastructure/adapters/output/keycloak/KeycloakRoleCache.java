@@ -0,0 +1,55 @@
+package org.example.infrastructure.adapters.output.keycloak;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.ws.rs.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.exceptions.IdentityManagerException;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class KeycloakRoleCache {
+
+    private final Keycloak keycloak;
+    private final String realm;
+    private final LoadingCache<String, RoleRepresentation> roles;
+
+    public KeycloakRoleCache(Keycloak keycloak,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.keycloak.realm}") String realm,
+                             @Value("${app.keycloak.role-cache.refresh-after:10m}") Duration refreshAfter) {
+        this.keycloak = keycloak;
+        this.realm = realm;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(100)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(this::loadRole);
+        CaffeineCacheMetrics.monitor(meterRegistry, roles, "keycloakRoles");
+    }
+
+    public RoleRepresentation getRole(String role) throws IdentityManagerException {
+        RoleRepresentation roleRepresentation = roles.get(role);
+        if (roleRepresentation == null) {
+            throw new IdentityManagerException("Role '" + role + "' does not exist");
+        }
+        return roleRepresentation;
+    }
+
+    private RoleRepresentation loadRole(String role) {
+        try {
+            return keycloak.realm(realm).roles().get(role).toRepresentation();
+        } catch (NotFoundException e) {
+            log.warn("Role '{}' does not exist in realm {}", role, realm);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.infrastructure.adapters.output.keycloak;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class UserEmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private volatile boolean seeded;
+
+    public UserEmailBloomFilter(UserRepository userRepository,
+                                @Value("${app.keycloak.user-filter.expected-users:1000000}") long expectedUsers,
+                                @Value("${app.keycloak.user-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        long optimalBits = (long) Math.ceil(-expectedUsers * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedUsers * Math.log(2)));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(this::put);
+        }
+        seeded = true;
+        log.info("User email filter seeded with {} bits and {} hash functions", bitCount, hashFunctions);
+    }
+
+    public boolean mightContain(String email) {
+        if (!seeded) {
+            return true;
+        }
+        long hash = hash(email);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = Integer.toUnsignedLong(first + i * second) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = Integer.toUnsignedLong(first + i * second) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
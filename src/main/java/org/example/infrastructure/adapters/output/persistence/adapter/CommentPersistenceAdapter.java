@@ -4,53 +4,111 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.port.output.CommentPersistenceOutputPort;
 import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.ReactionTarget;
 import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
 import org.example.infrastructure.adapters.output.persistence.entity.CommentEntity;
 import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
 import org.example.infrastructure.adapters.output.persistence.mapper.CommentPersistenceMapper;
+import org.example.infrastructure.adapters.output.persistence.pagination.KeysetCursor;
 import org.example.infrastructure.adapters.output.persistence.repositories.CommentRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionCountShardRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class CommentPersistenceAdapter implements CommentPersistenceOutputPort {
 
+    private static final String POST_FOREIGN_KEY = "fk_comment_post";
+
     private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountShardRepository reactionCountShardRepository;
     private final CommentPersistenceMapper commentPersistenceMapper;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Override
-    public Comment saveComment(Comment comment) {
-        log.info("Saving comment: {}", comment);
+    public Comment saveCommentOnPost(Comment comment, Long userId, Long postId) throws PostNotFoundException {
+        log.info("Saving comment on post {} by user {}", postId, userId);
+
+        CommentEntity entity = commentPersistenceMapper.toCommentEntityWithoutAssociations(comment);
+        entity.setUser(userRepository.getReferenceById(userId));
+        entity.setPost(postRepository.getReferenceById(postId));
 
-        CommentEntity entity = commentPersistenceMapper.toCommentEntity(comment);
-        log.info("Mapped to entity: {}", entity);
+        try {
+            entity = commentRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && POST_FOREIGN_KEY.equalsIgnoreCase(violation.getConstraintName())) {
+                throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+            }
+            throw e;
+        }
+        log.info("Saved entity: {}", entity.getId());
 
-        entity = commentRepository.save(entity);
-        log.info("Saved entity: {}", entity);
+        Comment savedComment = commentPersistenceMapper.toCommentWithoutAssociations(entity);
+        savedComment.setUser(comment.getUser());
+        return savedComment;
+    }
 
-        Comment savedPost = commentPersistenceMapper.toComment(entity);
-        log.info("Mapped back to domain comment: {}", savedPost);
+    @Override
+    public CursorPage<CommentSummary> getCommentsByPostId(Long id, String cursor, int limit) {
+        Limit pageLimit = Limit.of(limit + 1);
+        List<CommentSummary> comments;
+        if (cursor == null) {
+            comments = commentRepository.findFirstPageByPostId(id, pageLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            comments = commentRepository.findPageByPostIdAfter(id, after.timestamp(), after.id(), pageLimit);
+        }
 
-        return savedPost;
+        String nextCursor = null;
+        if (comments.size() > limit) {
+            comments = comments.subList(0, limit);
+            CommentSummary last = comments.get(limit - 1);
+            nextCursor = new KeysetCursor(last.commentedAt(), last.id()).encode();
+        }
+        return new CursorPage<>(comments, nextCursor);
     }
 
     @Override
-    public List<Comment> getAllCommentsByPostId(Long id) {
-        List<CommentEntity> commentEntities = commentRepository.findAllByPostId(id);
-        return commentEntities
-                .stream()
-                .map(commentPersistenceMapper::toComment)
-                .toList();
+    @Transactional(readOnly = true)
+    public void streamCommentsByPostId(Long id, Consumer<CommentSummary> consumer) {
+        try (Stream<CommentSummary> comments = commentRepository.streamAllByPostId(id)) {
+            comments.forEach(consumer);
+        }
     }
 
     @Override
-    public void deleteCommentById(Long id) {
-        commentRepository.deleteById(id);
+    @Transactional
+    public boolean deleteCommentById(Long id) {
+        boolean deleted = commentRepository.deleteCommentById(id) > 0;
+        // after the comment row is gone: a reaction still being inserted holds a lock on it, so this
+        // waits for that reaction and removes it too
+        reactionRepository.deleteByTarget(ReactionTarget.COMMENT.name(), id);
+        reactionCountShardRepository.deleteByTarget(ReactionTarget.COMMENT.name(), id);
+        cacheInvalidationPublisher.publish(CachedEntity.COMMENT, id);
+        return deleted;
     }
 
     @Override
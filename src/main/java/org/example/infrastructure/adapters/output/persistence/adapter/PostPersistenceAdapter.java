@@ -3,16 +3,36 @@ package org.example.infrastructure.adapters.output.persistence.adapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.application.port.output.PostPersistenceOutputPort;
+import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.PostSummary;
+import org.example.domain.models.ReactionTarget;
 import org.example.domain.models.User;
 import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.example.infrastructure.adapters.output.cache.SecondLevelCacheInvalidationHandler;
 import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
 import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
 import org.example.infrastructure.adapters.output.persistence.mapper.PostPersistenceMapper;
+import org.example.infrastructure.adapters.output.persistence.pagination.KeysetCursor;
+import org.example.infrastructure.adapters.output.persistence.pagination.SearchCursor;
 import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostSearchHit;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionCountShardRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
 
 import static org.example.domain.validator.InputValidator.validateInput;
@@ -22,23 +42,47 @@ import static org.example.domain.validator.InputValidator.validateInput;
 @RequiredArgsConstructor
 public class PostPersistenceAdapter implements PostPersistenceOutputPort {
 
+    private static final String UNIQUE_TITLE_PER_USER = "uk_post_user_title";
+
+    private static final String ADJUST_COMMENT_COUNT = """
+            update post_entity
+            set comment_count = comment_count + ?
+            where id = ?
+            returning comment_count""";
+
 
     private final PostPersistenceMapper postPersistenceMapper;
     private final PostRepository postRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheInvalidationHandler secondLevelCacheInvalidationHandler;
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountShardRepository reactionCountShardRepository;
 
 
     @Override
-    public Post savePost(Post post) {
+    @Transactional(rollbackFor = PostAlreadyExistsException.class)
+    public Post savePost(Post post) throws PostAlreadyExistsException {
 
         log.info("Saving user: {}", post);
 
         PostEntity entity = postPersistenceMapper.toEntity(post);
         log.info("Mapped to entity: {}", entity);
 
-        entity = postRepository.save(entity);
+        try {
+            entity = postRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && UNIQUE_TITLE_PER_USER.equalsIgnoreCase(violation.getConstraintName())) {
+                throw new PostAlreadyExistsException(ErrorMessages.POST_ALREADY_EXIST);
+            }
+            throw e;
+        }
         log.info("Saved entity: {}", entity);
+        cacheInvalidationPublisher.publish(CachedEntity.POST, entity.getId());
 
-        Post savedPost = postPersistenceMapper.toPost(entity);
+        Post savedPost = postPersistenceMapper.toPostWithoutUser(entity);
+        savedPost.setUser(post.getUser());
         log.info("Mapped back to domain user: {}", savedPost);
 
         return savedPost;
@@ -49,36 +93,120 @@ public class PostPersistenceAdapter implements PostPersistenceOutputPort {
 
 
     @Override
+    @Transactional
     public void deletePost(Post post) {
         postRepository.deleteById(post.getId());
+        // flushed first: a reaction still being inserted holds a lock on the post row, so the delete
+        // waits for it and the statements below remove that reaction too
+        postRepository.flush();
+        reactionRepository.deleteByTarget(ReactionTarget.POST.name(), post.getId());
+        reactionCountShardRepository.deleteByTarget(ReactionTarget.POST.name(), post.getId());
+        cacheInvalidationPublisher.publish(CachedEntity.POST, post.getId());
 
     }
 
     @Override
     public Post getPostById(Long id) throws PostNotFoundException {
-        PostEntity post = postRepository.findById(id).orElseThrow(()-> new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
+        PostEntity post = postRepository.findWithUserById(id).orElseThrow(()-> new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
         return postPersistenceMapper.toPost(post);
     }
 
+    @Override
+    public String getPostContent(Long id) throws PostNotFoundException {
+        return postRepository.findContentById(id).orElseThrow(() -> new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
+    }
+
+    @Override
+    public List<PostSummary> getPostSummaries(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : postRepository.findSummariesByIdIn(ids);
+    }
+
     @Override
     public boolean existsById(Long id) {
         return postRepository.existsById(id);
     }
 
+
+
+
     @Override
-    public boolean existsByTitleAndUserId(String title, Long id) {
-        return postRepository.existsByTitleAndUserId(title, id);
+    public CursorPage<PostSummary> getPostsByUserId(Long id, String cursor, int limit) {
+        Limit pageLimit = Limit.of(limit + 1);
+        List<PostSummary> posts;
+        if (cursor == null) {
+            posts = postRepository.findFirstPageByUserId(id, pageLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            posts = postRepository.findPageByUserIdAfter(id, after.timestamp(), after.id(), pageLimit);
+        }
+
+        String nextCursor = null;
+        if (posts.size() > limit) {
+            posts = posts.subList(0, limit);
+            PostSummary last = posts.get(limit - 1);
+            nextCursor = new KeysetCursor(last.publishedDate(), last.id()).encode();
+        }
+        return new CursorPage<>(posts, nextCursor);
     }
 
-
+    // read-only here rather than in the service: a feed page served from memory never opens a transaction
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getLatestPosts(String cursor, int limit) {
+        Limit pageLimit = Limit.of(limit + 1);
+        List<PostSummary> posts;
+        if (cursor == null) {
+            posts = postRepository.findLatestPosts(pageLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            posts = postRepository.findLatestPostsAfter(after.timestamp(), after.id(), pageLimit);
+        }
+
+        String nextCursor = null;
+        if (posts.size() > limit) {
+            posts = posts.subList(0, limit);
+            PostSummary last = posts.get(limit - 1);
+            nextCursor = new KeysetCursor(last.publishedDate(), last.id()).encode();
+        }
+        return new CursorPage<>(posts, nextCursor);
+    }
 
     @Override
-    public List<Post> getAllPostByUserId(Long id) {
-        List<PostEntity> postEntities = postRepository.findAllByUserId(id);
-        return postEntities.stream()
-                .map(postPersistenceMapper::toPost)
+    public CursorPage<PostSummary> searchPosts(String query, String cursor, int limit) {
+        List<PostSearchHit> hits;
+        if (cursor == null) {
+            hits = postRepository.searchFirstPage(query, limit + 1);
+        } else {
+            SearchCursor after = SearchCursor.decode(cursor);
+            hits = postRepository.searchPageAfter(query, after.rank(), after.id(), limit + 1);
+        }
+
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            PostSearchHit last = hits.get(limit - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId()).encode();
+        }
+        List<PostSummary> posts = hits.stream()
+                .map(hit -> new PostSummary(hit.getId(), hit.getTitle(), hit.getContent(), hit.getPublishedDate(), hit.getCommentCount()))
                 .toList();
+        return new CursorPage<>(posts, nextCursor);
     }
 
-
+    // Plain JDBC so Hibernate does not treat it as a bulk update and clear the whole posts region.
+    // Hibernate does not see the write either, so this post and the cached lookups are dropped
+    // by hand once the new count is visible to other transactions.
+    @Override
+    @Transactional
+    public long adjustCommentCount(Long postId, long delta) {
+        Long commentCount = jdbcTemplate.queryForObject(ADJUST_COMMENT_COUNT, Long.class, delta, postId);
+        cacheInvalidationPublisher.publish(CachedEntity.POST, postId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                secondLevelCacheInvalidationHandler.evict(CachedEntity.POST, postId);
+            }
+        });
+        return commentCount;
+    }
 }
@@ -0,0 +1,72 @@
+package org.example.infrastructure.adapters.output.persistence.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.example.application.port.output.ReactionPersistenceOutputPort;
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionCount;
+import org.example.domain.models.ReactionTarget;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.example.infrastructure.adapters.output.persistence.repositories.CommentRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionCountShardRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class ReactionPersistenceAdapter implements ReactionPersistenceOutputPort {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountShardRepository reactionCountShardRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${app.reactions.counter-shards:16}")
+    private int counterShards = 16;
+
+    @Override
+    @Transactional
+    public boolean saveReaction(Long userId, ReactionTarget target, Long targetId) throws PostNotFoundException, CommentNotFoundException {
+        if (reactionRepository.insertIfAbsent(userId, target.name(), targetId) == 0) {
+            // nothing inserted: the user had already reacted, or the target is gone
+            if (target == ReactionTarget.POST && !postRepository.existsById(targetId)) {
+                throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+            }
+            if (target == ReactionTarget.COMMENT && !commentRepository.existsById(targetId)) {
+                throw new CommentNotFoundException(ErrorMessages.COMMENT_NOT_FOUND);
+            }
+            return false;
+        }
+        addToRandomShard(target, targetId, 1);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteReaction(Long userId, ReactionTarget target, Long targetId) {
+        if (reactionRepository.deleteReaction(userId, target.name(), targetId) == 0) {
+            return false;
+        }
+        addToRandomShard(target, targetId, -1);
+        return true;
+    }
+
+    @Override
+    public List<ReactionCount> countReactions(ReactionTarget target, Collection<Long> targetIds) {
+        return reactionCountShardRepository.sumByTargets(target, targetIds);
+    }
+
+    // a random shard spreads concurrent reactions to one target over several row locks;
+    // a single shard may go negative, only the sum is meaningful
+    private void addToRandomShard(ReactionTarget target, Long targetId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(counterShards);
+        reactionCountShardRepository.addToShard(target.name(), targetId, shard, delta);
+    }
+}
@@ -4,13 +4,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.application.port.output.UserPersistenceOutputPort;
 import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.User;
+import org.example.infrastructure.adapters.config.security.AuthenticatedUserCache;
 import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
 import org.example.infrastructure.adapters.output.persistence.mapper.UserPersistenceMapper;
 import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
 import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 import static org.example.domain.validator.InputValidator.validateInput;
 
 @Service
@@ -23,6 +31,12 @@ public class UserPersistenceAdapter implements UserPersistenceOutputPort {
     @Autowired
     private UserPersistenceMapper userPersistenceMapper;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @Autowired
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @Override
     public User saveUser(User user) {
         log.info("Saving user: {}", user);
@@ -36,9 +50,28 @@ public class UserPersistenceAdapter implements UserPersistenceOutputPort {
         User savedUser = userPersistenceMapper.toModel(entity);
         log.info("Mapped back to domain user: {}", savedUser);
 
+        authenticatedUserCache.evict(savedUser);
+        cacheInvalidationPublisher.publish(CachedEntity.USER, savedUser.getId());
+
         return savedUser;
     }
 
+    @Override
+    public List<User> saveUsers(List<User> users) {
+        log.info("Saving {} users", users.size());
+
+        List<UserEntity> entities = users.stream()
+                .map(userPersistenceMapper::toEntity)
+                .toList();
+
+        List<User> savedUsers = userRepository.saveAll(entities).stream()
+                .map(userPersistenceMapper::toModel)
+                .toList();
+
+        savedUsers.forEach(authenticatedUserCache::evict);
+        return savedUsers;
+    }
+
     @Override
     public User getUserById(Long id) throws UserNotFoundException {
         UserEntity entity = userRepository.findById(id).orElseThrow(() -> new UserNotFoundException(ErrorMessages.USER_NOT_FOUND));
@@ -71,6 +104,16 @@ public class UserPersistenceAdapter implements UserPersistenceOutputPort {
         return userRepository.existsByEmail(email);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findEmailsIn(emails.stream()
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .toList());
+    }
+
     @Override
     public boolean existsById(Long id) {
         return userRepository.existsById(id);
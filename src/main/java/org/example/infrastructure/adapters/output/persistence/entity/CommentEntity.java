@@ -12,12 +12,13 @@ import java.time.LocalDateTime;
 @Getter
 public class CommentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_entity_seq")
+    @SequenceGenerator(name = "comment_entity_seq", sequenceName = "comment_entity_seq", allocationSize = 50)
     private Long id;
     private String content;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private UserEntity user;
     private LocalDateTime commentedAt;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private PostEntity post;
 }
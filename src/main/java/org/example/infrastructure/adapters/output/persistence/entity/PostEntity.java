@@ -3,20 +3,33 @@ package org.example.infrastructure.adapters.output.persistence.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts", includeLazy = false)
 @Setter
 @Getter
 public class PostEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_entity_seq")
+    @SequenceGenerator(name = "post_entity_seq", sequenceName = "post_entity_seq", allocationSize = 50)
     private Long id;
     private String title;
+    // up to max-content-length characters: loaded only when read, and never kept in the second-level cache
+    @Basic(fetch = FetchType.LAZY)
     private String content;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private UserEntity user;
     private LocalDateTime publishedDate;
     private LocalDateTime updatedDate;
+    // written in batches by PostViewCounterAdapter; an entity save must not overwrite it
+    @Column(insertable = false, updatable = false)
+    private long viewCount;
+    // kept in step with comment_entity by in-place increments; an entity save must not overwrite it
+    @Column(insertable = false, updatable = false)
+    private long commentCount;
 }
@@ -0,0 +1,17 @@
+package org.example.infrastructure.adapters.output.persistence.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "reaction_count_shard")
+@Setter
+@Getter
+public class ReactionCountShardEntity {
+    @EmbeddedId
+    private ReactionShardId id;
+    private Long count;
+}
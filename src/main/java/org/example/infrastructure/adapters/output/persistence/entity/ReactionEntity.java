@@ -0,0 +1,19 @@
+package org.example.infrastructure.adapters.output.persistence.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reaction")
+@Setter
+@Getter
+public class ReactionEntity {
+    @EmbeddedId
+    private ReactionId id;
+    private LocalDateTime reactedAt;
+}
@@ -0,0 +1,28 @@
+package org.example.infrastructure.adapters.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.domain.models.ReactionTarget;
+
+import java.io.Serializable;
+
+@Embeddable
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReactionShardId implements Serializable {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type")
+    private ReactionTarget target;
+    private Long targetId;
+    private Integer shard;
+}
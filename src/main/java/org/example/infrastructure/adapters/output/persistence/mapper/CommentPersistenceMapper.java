@@ -3,12 +3,24 @@ package org.example.infrastructure.adapters.output.persistence.mapper;
 import org.example.domain.models.Comment;
 import org.example.infrastructure.adapters.output.persistence.entity.CommentEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = {UserPersistenceMapper.class, PostPersistenceMapper.class})
 public interface CommentPersistenceMapper {
 
     CommentEntity toCommentEntity(Comment comment);
 
     Comment toComment(CommentEntity entity);
 
+    @Named("toCommentEntityWithoutAssociations")
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "post", ignore = true)
+    CommentEntity toCommentEntityWithoutAssociations(Comment comment);
+
+    @Named("toCommentWithoutAssociations")
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "post", ignore = true)
+    Comment toCommentWithoutAssociations(CommentEntity entity);
+
 }
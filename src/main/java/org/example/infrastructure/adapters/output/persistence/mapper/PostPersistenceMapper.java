@@ -4,6 +4,7 @@ import org.example.domain.models.Post;
 import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring", uses = {UserPersistenceMapper.class})
 public interface PostPersistenceMapper {
@@ -18,11 +19,16 @@ public interface PostPersistenceMapper {
     PostEntity toEntity(Post post);
 
 
+    // content is lazy and usually unloaded here; the body is read through getPostContent
     @Mapping(target = "id", source = "id")
     @Mapping(target = "title", source = "title")
-    @Mapping(target = "content", source = "content")
+    @Mapping(target = "content", ignore = true)
     @Mapping(target = "publishedDate", source = "publishedDate")
     @Mapping(target = "updatedDate", source = "updatedDate")
     @Mapping(target = "user", source = "user")
     Post toPost(PostEntity entity);
+
+    @Named("toPostWithoutUser")
+    @Mapping(target = "user", ignore = true)
+    Post toPostWithoutUser(PostEntity entity);
 }
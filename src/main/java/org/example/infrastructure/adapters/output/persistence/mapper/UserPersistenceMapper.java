@@ -19,6 +19,7 @@ public interface UserPersistenceMapper {
     @Mapping(target = "emailVerified", source = "emailVerified")
     @Mapping(target = "enabled", source = "enabled")
     @Mapping(target = "password", source = "password")
+    @Mapping(target = "posts", ignore = true)
     UserEntity toEntity(User user);
 
     @Mapping(target = "id", source = "id")
@@ -30,6 +31,7 @@ public interface UserPersistenceMapper {
     @Mapping(target = "password", source = "password")
     @Mapping(target = "emailVerified", source = "emailVerified")
     @Mapping(target = "enabled", source = "enabled")
+    @Mapping(target = "posts", ignore = true)
     User toModel(UserEntity entity);
 }
 
@@ -0,0 +1,40 @@
+package org.example.infrastructure.adapters.output.persistence.pagination;
+
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(timestamp.toEpochSecond(ZoneOffset.UTC))
+                .putInt(timestamp.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        if (nano < 0 || nano > 999_999_999) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        return new KeysetCursor(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), buffer.getLong());
+    }
+}
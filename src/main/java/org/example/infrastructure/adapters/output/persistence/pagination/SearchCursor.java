@@ -0,0 +1,36 @@
+package org.example.infrastructure.adapters.output.persistence.pagination;
+
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public record SearchCursor(float rank, Long id) {
+
+    private static final int ENCODED_BYTES = Float.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putFloat(rank)
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        float rank = buffer.getFloat();
+        if (!Float.isFinite(rank)) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+        return new SearchCursor(rank, buffer.getLong());
+    }
+}
@@ -1,14 +1,50 @@
 package org.example.infrastructure.adapters.output.persistence.repositories;
 
-import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
 import org.example.infrastructure.adapters.output.persistence.entity.CommentEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface CommentRepository  extends JpaRepository<CommentEntity, Long> {
 
-    List<CommentEntity> findAllByPostId(Long id);
+    @Query("""
+            select new org.example.domain.models.CommentSummary(c.id, c.content, c.commentedAt)
+            from CommentEntity c
+            where c.post.id = :postId
+            order by c.commentedAt, c.id""")
+    List<CommentSummary> findFirstPageByPostId(Long postId, Limit limit);
+
+    @Query("""
+            select new org.example.domain.models.CommentSummary(c.id, c.content, c.commentedAt)
+            from CommentEntity c
+            where c.post.id = :postId
+              and (c.commentedAt, c.id) > (:commentedAt, :id)
+            order by c.commentedAt, c.id""")
+    List<CommentSummary> findPageByPostIdAfter(Long postId, LocalDateTime commentedAt, Long id, Limit limit);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new org.example.domain.models.CommentSummary(c.id, c.content, c.commentedAt)
+            from CommentEntity c
+            where c.post.id = :postId
+            order by c.commentedAt, c.id""")
+    Stream<CommentSummary> streamAllByPostId(Long postId);
+
+    @EntityGraph(attributePaths = {"user", "post", "post.user"})
     CommentEntity findByIdAndPostId(Long commentId, Long postId);
+
+    @Modifying
+    @Query("delete from CommentEntity c where c.id = :id")
+    int deleteCommentById(Long id);
 }
@@ -1,17 +1,90 @@
 package org.example.infrastructure.adapters.output.persistence.repositories;
 
-import org.example.domain.models.Post;
+import org.example.domain.models.PostSummary;
+import jakarta.persistence.QueryHint;
 import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
+
+    // listings read only the start of the content, which Postgres can decompress on its own
+    String SUMMARY = "select new org.example.domain.models.PostSummary(p.id, p.title, substring(p.content, 1, "
+            + PostSummary.EXCERPT_LENGTH + "), p.publishedDate, p.commentCount) ";
+
+    String SEARCH_COLUMNS = "select p.id, p.title, substring(p.content, 1, " + PostSummary.EXCERPT_LENGTH + ") as content, "
+            + "p.published_date as publishedDate, p.comment_count as commentCount, ";
+
     Optional<PostEntity> findByTitle(String title);
 
-    boolean existsByTitleAndUserId(String title, Long id);
+    @EntityGraph(attributePaths = "user")
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "post-lookups")})
+    Optional<PostEntity> findWithUserById(Long id);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            where p.user.id = :userId
+            order by p.publishedDate desc, p.id desc""")
+    List<PostSummary> findFirstPageByUserId(Long userId, Limit limit);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            where p.user.id = :userId
+              and (p.publishedDate, p.id) < (:publishedDate, :id)
+            order by p.publishedDate desc, p.id desc""")
+    List<PostSummary> findPageByUserIdAfter(Long userId, LocalDateTime publishedDate, Long id, Limit limit);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            order by p.publishedDate desc, p.id desc""")
+    List<PostSummary> findLatestPosts(Limit limit);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            where (p.publishedDate, p.id) < (:publishedDate, :id)
+            order by p.publishedDate desc, p.id desc""")
+    List<PostSummary> findLatestPostsAfter(LocalDateTime publishedDate, Long id, Limit limit);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            where p.id = :id""")
+    Optional<PostSummary> findSummaryById(Long id);
+
+    @Query(SUMMARY + """
+            from PostEntity p
+            where p.id in :ids""")
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("select p.content from PostEntity p where p.id = :id")
+    Optional<String> findContentById(Long id);
+
+    @Query(value = SEARCH_COLUMNS + """
+            ts_rank(p.search_vector, q) as rank
+            from post_entity p, websearch_to_tsquery('english', :query) q
+            where p.search_vector @@ q
+            order by rank desc, p.id desc
+            limit :limit""", nativeQuery = true)
+    List<PostSearchHit> searchFirstPage(String query, int limit);
 
-    List<PostEntity> findAllByUserId(Long id);
+    @Query(value = "select * from (" + SEARCH_COLUMNS + """
+                ts_rank(p.search_vector, q) as rank
+                from post_entity p, websearch_to_tsquery('english', :query) q
+                where p.search_vector @@ q
+            ) hits
+            where (hits.rank, hits.id) < (cast(:rank as real), :id)
+            order by hits.rank desc, hits.id desc
+            limit :limit""", nativeQuery = true)
+    List<PostSearchHit> searchPageAfter(String query, float rank, Long id, int limit);
 
 }
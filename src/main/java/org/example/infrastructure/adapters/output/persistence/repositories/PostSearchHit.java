@@ -0,0 +1,18 @@
+package org.example.infrastructure.adapters.output.persistence.repositories;
+
+import java.time.LocalDateTime;
+
+public interface PostSearchHit {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    LocalDateTime getPublishedDate();
+
+    long getCommentCount();
+
+    Float getRank();
+}
@@ -0,0 +1,41 @@
+package org.example.infrastructure.adapters.output.persistence.repositories;
+
+import jakarta.persistence.QueryHint;
+import org.example.domain.models.ReactionCount;
+import org.example.domain.models.ReactionTarget;
+import org.example.infrastructure.adapters.output.persistence.entity.ReactionCountShardEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.ReactionShardId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+public interface ReactionCountShardRepository extends JpaRepository<ReactionCountShardEntity, ReactionShardId> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "reaction_count_shard"))
+    @Query(value = """
+            insert into reaction_count_shard (target_type, target_id, shard, count)
+            values (:targetType, :targetId, :shard, :delta)
+            on conflict (target_type, target_id, shard) do update
+            set count = reaction_count_shard.count + excluded.count""", nativeQuery = true)
+    int addToShard(String targetType, Long targetId, int shard, long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "reaction_count_shard"))
+    @Query(value = "delete from reaction_count_shard where target_type = :targetType and target_id = :targetId", nativeQuery = true)
+    int deleteByTarget(String targetType, Long targetId);
+
+    @Query("""
+            select new org.example.domain.models.ReactionCount(s.id.targetId, sum(s.count))
+            from ReactionCountShardEntity s
+            where s.id.target = :target
+              and s.id.targetId in :targetIds
+            group by s.id.targetId""")
+    List<ReactionCount> sumByTargets(ReactionTarget target, Collection<Long> targetIds);
+}
@@ -0,0 +1,40 @@
+package org.example.infrastructure.adapters.output.persistence.repositories;
+
+import jakarta.persistence.QueryHint;
+import org.example.infrastructure.adapters.output.persistence.entity.ReactionEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.ReactionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+// Native statements name the table they touch; without it Hibernate clears the whole second-level cache.
+public interface ReactionRepository extends JpaRepository<ReactionEntity, ReactionId> {
+
+    // The target is key-share locked while the reaction is inserted: a concurrent delete of the post or
+    // comment waits for this commit and then removes the reaction with it, and once the delete has
+    // committed nothing is inserted.
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "reaction"))
+    @Query(value = """
+            insert into reaction (user_id, target_type, target_id, reacted_at)
+            select :userId, :targetType, :targetId, localtimestamp
+            where (:targetType = 'POST' and exists (select 1 from post_entity p where p.id = :targetId for key share))
+               or (:targetType = 'COMMENT' and exists (select 1 from comment_entity c where c.id = :targetId for key share))
+            on conflict do nothing""", nativeQuery = true)
+    int insertIfAbsent(Long userId, String targetType, Long targetId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "reaction"))
+    @Query(value = """
+            delete from reaction
+            where user_id = :userId and target_type = :targetType and target_id = :targetId""", nativeQuery = true)
+    int deleteReaction(Long userId, String targetType, Long targetId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "reaction"))
+    @Query(value = "delete from reaction where target_type = :targetType and target_id = :targetId", nativeQuery = true)
+    int deleteByTarget(String targetType, Long targetId);
+}
@@ -3,14 +3,26 @@ package org.example.infrastructure.adapters.output.persistence.repositories;
 import org.example.domain.models.User;
 import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
+    @Query("select count(u) > 0 from UserEntity u where lower(u.email) = lower(:email)")
     boolean existsByEmail(String email);
 
+    @Query("select u from UserEntity u where lower(u.email) = lower(:email)")
     Optional<UserEntity> findByEmail(String email);
 
+    @Query("select u.email from UserEntity u where lower(u.email) in :emails")
+    Set<String> findEmailsIn(Collection<String> emails);
+
+    @Query("select u.email from UserEntity u")
+    Stream<String> streamAllEmails();
+
 
 }
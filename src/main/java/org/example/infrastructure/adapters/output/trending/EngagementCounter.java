@@ -0,0 +1,163 @@
+package org.example.infrastructure.adapters.output.trending;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Views and comments for one post in a ring of time buckets. Recording only touches a
+// LongAdder; the lock is taken when a slot moves on to a new bucket and by the flusher.
+final class EngagementCounter {
+
+    private final AtomicLongArray epochs;
+    private final LongAdder[] views;
+    private final LongAdder[] comments;
+    private final long[] flushedViews;
+    private final long[] flushedComments;
+
+    EngagementCounter(int buckets) {
+        this.epochs = new AtomicLongArray(buckets);
+        this.views = new LongAdder[buckets];
+        this.comments = new LongAdder[buckets];
+        this.flushedViews = new long[buckets];
+        this.flushedComments = new long[buckets];
+        for (int i = 0; i < buckets; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+            views[i] = new LongAdder();
+            comments[i] = new LongAdder();
+        }
+    }
+
+    void recordView(long epoch) {
+        int slot = slot(epoch);
+        if (claim(slot, epoch)) {
+            views[slot].increment();
+        }
+    }
+
+    void recordComment(long epoch) {
+        int slot = slot(epoch);
+        if (claim(slot, epoch)) {
+            comments[slot].increment();
+        }
+    }
+
+    long score(long currentEpoch, long commentWeight) {
+        long score = 0;
+        for (int slot = 0; slot < epochs.length(); slot++) {
+            if (inWindow(epochs.get(slot), currentEpoch)) {
+                score += views[slot].sum() + commentWeight * comments[slot].sum();
+            }
+        }
+        return score;
+    }
+
+    // nothing in the window: safe for the ranking thread to drop, as long as it moves late records
+    boolean isIdle(long currentEpoch) {
+        for (int slot = 0; slot < epochs.length(); slot++) {
+            if (inWindow(epochs.get(slot), currentEpoch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // In a dropped counter the flushed counts mark what has been moved so far; a record that
+    // still landed on it after it left the map is handed to the post's current counter.
+    synchronized boolean hasUnmoved(long currentEpoch) {
+        for (int slot = 0; slot < epochs.length(); slot++) {
+            if (inWindow(epochs.get(slot), currentEpoch)
+                    && (views[slot].sum() != flushedViews[slot] || comments[slot].sum() != flushedComments[slot])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void moveInto(EngagementCounter replacement, long currentEpoch) {
+        for (int slot = 0; slot < epochs.length(); slot++) {
+            long epoch = epochs.get(slot);
+            if (!inWindow(epoch, currentEpoch)) {
+                continue;
+            }
+            long viewTotal = views[slot].sum();
+            long commentTotal = comments[slot].sum();
+            if (viewTotal != flushedViews[slot] || commentTotal != flushedComments[slot]) {
+                replacement.add(epoch, viewTotal - flushedViews[slot], commentTotal - flushedComments[slot]);
+                flushedViews[slot] = viewTotal;
+                flushedComments[slot] = commentTotal;
+            }
+        }
+    }
+
+    // unlike restored counts these have not been written yet and go out with the next flush
+    synchronized void add(long epoch, long addedViews, long addedComments) {
+        int slot = slot(epoch);
+        if (claim(slot, epoch)) {
+            views[slot].add(addedViews);
+            comments[slot].add(addedComments);
+        }
+    }
+
+    // counts loaded from the database are treated as already flushed
+    synchronized void restore(long epoch, long restoredViews, long restoredComments) {
+        int slot = slot(epoch);
+        if (claim(slot, epoch)) {
+            views[slot].add(restoredViews);
+            comments[slot].add(restoredComments);
+            flushedViews[slot] += restoredViews;
+            flushedComments[slot] += restoredComments;
+        }
+    }
+
+    synchronized void collectUnflushed(Long postId, long currentEpoch, List<EngagementDelta> deltas) {
+        for (int slot = 0; slot < epochs.length(); slot++) {
+            long epoch = epochs.get(slot);
+            if (!inWindow(epoch, currentEpoch)) {
+                continue;
+            }
+            long viewTotal = views[slot].sum();
+            long commentTotal = comments[slot].sum();
+            if (viewTotal != flushedViews[slot] || commentTotal != flushedComments[slot]) {
+                deltas.add(new EngagementDelta(postId, this, epoch, viewTotal, commentTotal,
+                        viewTotal - flushedViews[slot], commentTotal - flushedComments[slot]));
+            }
+        }
+    }
+
+    synchronized void markFlushed(long epoch, long viewTotal, long commentTotal) {
+        int slot = slot(epoch);
+        if (epochs.get(slot) == epoch) {
+            flushedViews[slot] = viewTotal;
+            flushedComments[slot] = commentTotal;
+        }
+    }
+
+    private boolean claim(int slot, long epoch) {
+        long current = epochs.get(slot);
+        if (current == epoch) {
+            return true;
+        }
+        synchronized (this) {
+            current = epochs.get(slot);
+            if (current < epoch) {
+                // reset before publishing the new epoch so no increment lands in the old bucket's counts
+                views[slot].reset();
+                comments[slot].reset();
+                flushedViews[slot] = 0;
+                flushedComments[slot] = 0;
+                epochs.set(slot, epoch);
+                return true;
+            }
+            // a bucket that has already left the ring
+            return current == epoch;
+        }
+    }
+
+    private boolean inWindow(long epoch, long currentEpoch) {
+        return epoch <= currentEpoch && epoch > currentEpoch - epochs.length();
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) epochs.length());
+    }
+}
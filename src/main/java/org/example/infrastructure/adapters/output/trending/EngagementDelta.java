@@ -0,0 +1,10 @@
+package org.example.infrastructure.adapters.output.trending;
+
+// Counts recorded in one bucket since the last flush, plus the totals to mark as flushed once written.
+record EngagementDelta(Long postId, EngagementCounter counter, long epoch,
+                       long viewTotal, long commentTotal, long views, long comments) {
+
+    void markFlushed() {
+        counter.markFlushed(epoch, viewTotal, commentTotal);
+    }
+}
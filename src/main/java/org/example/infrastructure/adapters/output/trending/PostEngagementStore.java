@@ -0,0 +1,53 @@
+package org.example.infrastructure.adapters.output.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PostEngagementStore {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ADD_DELTA = """
+            insert into post_engagement (post_id, bucket_start, views, comments)
+            values (?, ?, ?, ?)
+            on conflict (post_id, bucket_start) do update
+            set views = post_engagement.views + excluded.views,
+                comments = post_engagement.comments + excluded.comments""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    void addDeltas(List<EngagementDelta> deltas, Duration bucketLength) {
+        jdbcTemplate.batchUpdate(ADD_DELTA, deltas, BATCH_SIZE, (statement, delta) -> {
+            statement.setLong(1, delta.postId());
+            statement.setTimestamp(2, Timestamp.from(Instant.ofEpochMilli(delta.epoch() * bucketLength.toMillis())));
+            statement.setLong(3, delta.views());
+            statement.setLong(4, delta.comments());
+        });
+    }
+
+    void loadSince(Instant since, Duration bucketLength, BucketConsumer consumer) {
+        jdbcTemplate.query("select post_id, bucket_start, views, comments from post_engagement where bucket_start >= ?",
+                resultSet -> {
+                    long epoch = resultSet.getTimestamp(2).getTime() / bucketLength.toMillis();
+                    consumer.accept(resultSet.getLong(1), epoch, resultSet.getLong(3), resultSet.getLong(4));
+                },
+                Timestamp.from(since));
+    }
+
+    int deleteBefore(Instant before) {
+        return jdbcTemplate.update("delete from post_engagement where bucket_start < ?", Timestamp.from(before));
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(long postId, long epoch, long views, long comments);
+    }
+}
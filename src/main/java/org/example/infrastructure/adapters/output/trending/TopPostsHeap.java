@@ -0,0 +1,104 @@
+package org.example.infrastructure.adapters.output.trending;
+
+import org.example.domain.models.PostScore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Min-heap of the K best scores, indexed by post so a score can be raised in place.
+// Only the ranking thread touches it.
+final class TopPostsHeap {
+
+    private final Long[] ids;
+    private final long[] scores;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size;
+
+    TopPostsHeap(int capacity) {
+        this.ids = new Long[capacity];
+        this.scores = new long[capacity];
+    }
+
+    void offer(Long postId, long score) {
+        Integer position = positions.get(postId);
+        if (position != null) {
+            long previous = scores[position];
+            scores[position] = score;
+            if (score > previous) {
+                siftDown(position);
+            } else {
+                siftUp(position);
+            }
+        } else if (size < ids.length) {
+            place(size, postId, score);
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            positions.remove(ids[0]);
+            place(0, postId, score);
+            siftDown(0);
+        }
+    }
+
+    void clear() {
+        positions.clear();
+        for (int i = 0; i < size; i++) {
+            ids[i] = null;
+        }
+        size = 0;
+    }
+
+    List<PostScore> ranked() {
+        List<PostScore> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranked.add(new PostScore(ids[i], scores[i]));
+        }
+        ranked.sort(Comparator.comparingLong(PostScore::score).reversed().thenComparing(PostScore::postId, Comparator.reverseOrder()));
+        return ranked;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int first, int second) {
+        Long id = ids[first];
+        long score = scores[first];
+        place(first, ids[second], scores[second]);
+        place(second, id, score);
+    }
+
+    private void place(int position, Long postId, long score) {
+        ids[position] = postId;
+        scores[position] = score;
+        positions.put(postId, position);
+    }
+}
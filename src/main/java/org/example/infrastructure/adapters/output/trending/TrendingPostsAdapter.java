@@ -0,0 +1,208 @@
+package org.example.infrastructure.adapters.output.trending;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.output.TrendingOutputPort;
+import org.example.domain.models.PostScore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Views and comments per post over a sliding window of time buckets. Events only bump a
+// counter and mark the post dirty; the ranking thread folds dirty posts into a top-K heap
+// and rebuilds it when the window slides, and a flush keeps the buckets in post_engagement.
+@Slf4j
+@Component
+public class TrendingPostsAdapter implements TrendingOutputPort {
+
+    private final PostEngagementStore postEngagementStore;
+    private final Clock clock;
+    private final Duration bucketLength;
+    private final int buckets;
+    private final long commentWeight;
+    private final Duration refreshInterval;
+    private final Duration flushInterval;
+
+    private final Map<Long, EngagementCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // dropped counters a late event may still hold; only touched under this object's lock
+    private final List<RetiredCounter> retired = new ArrayList<>();
+    private final TopPostsHeap heap;
+    private volatile List<PostScore> ranking = List.of();
+    private long rankedEpoch = Long.MIN_VALUE;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TrendingPostsAdapter(PostEngagementStore postEngagementStore,
+                                @Value("${app.trending.window:1h}") Duration window,
+                                @Value("${app.trending.buckets:12}") int buckets,
+                                @Value("${app.trending.top-k:100}") int topK,
+                                @Value("${app.trending.comment-weight:5}") long commentWeight,
+                                @Value("${app.trending.refresh-interval:5s}") Duration refreshInterval,
+                                @Value("${app.trending.flush-interval:30s}") Duration flushInterval) {
+        this(postEngagementStore, Clock.systemUTC(), window, buckets, topK, commentWeight, refreshInterval, flushInterval);
+    }
+
+    public TrendingPostsAdapter(PostEngagementStore postEngagementStore, Clock clock, Duration window, int buckets,
+                                int topK, long commentWeight, Duration refreshInterval, Duration flushInterval) {
+        this.postEngagementStore = postEngagementStore;
+        this.clock = clock;
+        this.bucketLength = window.dividedBy(buckets);
+        this.buckets = buckets;
+        this.commentWeight = commentWeight;
+        this.refreshInterval = refreshInterval;
+        this.flushInterval = flushInterval;
+        this.heap = new TopPostsHeap(topK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long currentEpoch = currentEpoch();
+        postEngagementStore.loadSince(windowStart(currentEpoch), bucketLength, (postId, epoch, views, comments) ->
+                counter(postId).restore(epoch, views, comments));
+        refresh();
+        log.info("Trending counters restored for {} posts", counters.size());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trending-posts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            flushQuietly();
+        }
+    }
+
+    @Override
+    public void recordView(Long postId) {
+        counter(postId).recordView(currentEpoch());
+        dirty.add(postId);
+    }
+
+    @Override
+    public void recordComment(Long postId) {
+        counter(postId).recordComment(currentEpoch());
+        dirty.add(postId);
+    }
+
+    @Override
+    public List<PostScore> getTopPosts(int limit) {
+        List<PostScore> current = ranking;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    // O(log K) per post touched since the last run; a full rebuild only when the window slides
+    public synchronized void refresh() {
+        long currentEpoch = currentEpoch();
+        moveLateEvents(currentEpoch);
+        if (currentEpoch != rankedEpoch) {
+            dirty.clear();
+            heap.clear();
+            counters.forEach((postId, counter) -> {
+                if (counter.isIdle(currentEpoch)) {
+                    // an event may still land on it after the removal; the next runs move it over
+                    if (counters.remove(postId, counter)) {
+                        retired.add(new RetiredCounter(postId, counter));
+                    }
+                    return;
+                }
+                long score = counter.score(currentEpoch, commentWeight);
+                if (score > 0) {
+                    heap.offer(postId, score);
+                }
+            });
+            rankedEpoch = currentEpoch;
+        } else {
+            for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext(); ) {
+                Long postId = iterator.next();
+                iterator.remove();
+                EngagementCounter counter = counters.get(postId);
+                if (counter != null) {
+                    heap.offer(postId, counter.score(currentEpoch, commentWeight));
+                }
+            }
+        }
+        ranking = List.copyOf(heap.ranked());
+    }
+
+    public synchronized void flush() {
+        long currentEpoch = currentEpoch();
+        List<EngagementDelta> deltas = new ArrayList<>();
+        counters.forEach((postId, counter) -> counter.collectUnflushed(postId, currentEpoch, deltas));
+        if (!deltas.isEmpty()) {
+            postEngagementStore.addDeltas(deltas, bucketLength);
+            deltas.forEach(EngagementDelta::markFlushed);
+        }
+        int pruned = postEngagementStore.deleteBefore(windowStart(currentEpoch));
+        log.debug("Flushed {} engagement buckets, pruned {}", deltas.size(), pruned);
+    }
+
+    // Recording stays a bare increment, so an event can hit a counter that was just dropped.
+    // Each run hands such events to the post's current counter, and a dropped counter is let
+    // go once a whole refresh interval has brought nothing new.
+    private void moveLateEvents(long currentEpoch) {
+        for (Iterator<RetiredCounter> iterator = retired.iterator(); iterator.hasNext(); ) {
+            RetiredCounter late = iterator.next();
+            if (late.counter().hasUnmoved(currentEpoch)) {
+                late.counter().moveInto(counter(late.postId()), currentEpoch);
+                dirty.add(late.postId());
+            } else {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh trending posts", e);
+        }
+    }
+
+    // unflushed counts stay in memory and go out with the next flush
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush engagement counters: {}", e.getMessage());
+        }
+    }
+
+    private EngagementCounter counter(Long postId) {
+        return counters.computeIfAbsent(postId, id -> new EngagementCounter(buckets));
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketLength.toMillis();
+    }
+
+    private Instant windowStart(long currentEpoch) {
+        return Instant.ofEpochMilli((currentEpoch - buckets + 1) * bucketLength.toMillis());
+    }
+
+    private record RetiredCounter(Long postId, EngagementCounter counter) {
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.infrastructure.adapters.output.views;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.application.port.output.ViewCounterOutputPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Write-behind view counting: a view bumps an in-memory LongAdder and the totals are added
+// to post_entity.view_count in one statement per batch. A crash loses at most one flush interval.
+@Slf4j
+@Component
+public class PostViewCounterAdapter implements ViewCounterOutputPort {
+
+    private static final String ADD_VIEWS = """
+            update post_entity p
+            set view_count = p.view_count + v.views
+            from unnest(?::bigint[], ?::bigint[]) as v(id, views)
+            where p.id = v.id
+            returning p.id, p.view_count""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration flushInterval;
+    private final int batchSize;
+
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+    // dropped counters a late view may still hold; only the flushing thread touches this
+    private final List<RetiredViews> retired = new ArrayList<>();
+    // totals returned by our own flushes; newer than a post cached before the flush
+    private final Cache<Long, Long> flushedTotals;
+    private ScheduledExecutorService flusher;
+
+    public PostViewCounterAdapter(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.views.flush-interval:5s}") Duration flushInterval,
+                                  @Value("${app.views.batch-size:1000}") int batchSize,
+                                  @Value("${app.cache.posts.maximum-size:10000}") long maximumSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.flushedTotals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(15))
+                .build();
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-view-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdownNow();
+        flushQuietly();
+    }
+
+    @Override
+    public long recordView(Long postId, long persistedViews) {
+        LongAdder views = pending(postId).views;
+        views.increment();
+        Long flushed = flushedTotals.getIfPresent(postId);
+        // counts only grow, so the larger of the two persisted values is the fresher one
+        return Math.max(persistedViews, flushed == null ? 0 : flushed) + views.sum();
+    }
+
+    public synchronized void flush() {
+        moveLateViews();
+        List<FlushedViews> batch = new ArrayList<>();
+        pending.forEach((postId, views) -> {
+            long count = views.views.sum();
+            if (count > 0) {
+                views.idle = false;
+                batch.add(new FlushedViews(postId, views, count));
+            } else if (!views.idle) {
+                views.idle = true;
+            } else if (pending.remove(postId, views)) {
+                // idle for a whole interval; a view that looked it up before the removal is moved by the next flushes
+                retired.add(new RetiredViews(postId, views.views));
+            }
+        });
+        // the same lock order on every node keeps concurrent flushes from deadlocking
+        batch.sort(Comparator.comparing(FlushedViews::postId));
+
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<FlushedViews> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            Map<Long, Long> totals = addViews(chunk);
+            // subtract only what was written, and before the new totals are visible, so a view
+            // recorded meanwhile neither counts the flushed views twice nor goes missing
+            chunk.forEach(views -> views.pending().views.add(-views.count()));
+            flushedTotals.putAll(totals);
+        }
+        log.debug("Flushed views for {} posts", batch.size());
+    }
+
+    // A view can land on a counter after the flush dropped it. Whatever arrived since the last
+    // look is added to the post's current counter, and a dropped counter is let go once a whole
+    // interval has brought nothing new.
+    private void moveLateViews() {
+        for (Iterator<RetiredViews> iterator = retired.iterator(); iterator.hasNext(); ) {
+            RetiredViews views = iterator.next();
+            long late = views.views.sum() - views.moved;
+            if (late == 0) {
+                iterator.remove();
+            } else {
+                pending(views.postId).views.add(late);
+                views.moved += late;
+            }
+        }
+    }
+
+    private PendingViews pending(Long postId) {
+        return pending.computeIfAbsent(postId, id -> new PendingViews());
+    }
+
+    private Map<Long, Long> addViews(List<FlushedViews> chunk) {
+        Long[] ids = chunk.stream().map(FlushedViews::postId).toArray(Long[]::new);
+        Long[] counts = chunk.stream().map(FlushedViews::count).toArray(Long[]::new);
+        Map<Long, Long> totals = new HashMap<>();
+        jdbcTemplate.query(ADD_VIEWS, statement -> {
+            Array idArray = statement.getConnection().createArrayOf("bigint", ids);
+            Array countArray = statement.getConnection().createArrayOf("bigint", counts);
+            statement.setArray(1, idArray);
+            statement.setArray(2, countArray);
+        }, resultSet -> {
+            totals.put(resultSet.getLong(1), resultSet.getLong(2));
+        });
+        return totals;
+    }
+
+    // a failed batch stays pending and is retried with the next flush
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush post views: {}", e.getMessage());
+        }
+    }
+
+    private record FlushedViews(Long postId, PendingViews pending, long count) {
+    }
+
+    private static final class PendingViews {
+
+        private final LongAdder views = new LongAdder();
+        // found empty by the last flush; only the flushing thread reads or writes it
+        private boolean idle;
+    }
+
+    private static final class RetiredViews {
+
+        private final Long postId;
+        private final LongAdder views;
+        private long moved;
+
+        private RetiredViews(Long postId, LongAdder views) {
+            this.postId = postId;
+            this.views = views;
+        }
+    }
+}
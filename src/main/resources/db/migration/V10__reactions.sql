@@ -0,0 +1,18 @@
+-- One row per user and target makes reacting idempotent. Counts are spread over shard rows
+-- so concurrent reactions to a popular target do not queue on a single row lock.
+
+create table if not exists reaction (
+    user_id     bigint      not null constraint fk_reaction_user references user_entity (id),
+    target_type varchar(16) not null,
+    target_id   bigint      not null,
+    reacted_at  timestamp(6) not null,
+    primary key (user_id, target_type, target_id)
+);
+
+create table if not exists reaction_count_shard (
+    target_type varchar(16) not null,
+    target_id   bigint      not null,
+    shard       int         not null,
+    count       bigint      not null,
+    primary key (target_type, target_id, shard)
+);
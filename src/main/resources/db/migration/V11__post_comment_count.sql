@@ -0,0 +1,9 @@
+-- Comment totals kept on the post so post lists need no per-post count(*) over comment_entity.
+-- Maintained by in-place increments when comments are written or deleted; CommentCountReconciler repairs drift.
+
+alter table post_entity add column if not exists comment_count bigint not null default 0;
+
+update post_entity p
+set comment_count = c.total
+from (select post_id, count(*) as total from comment_entity group by post_id) c
+where p.id = c.post_id;
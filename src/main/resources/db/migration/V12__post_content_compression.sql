@@ -0,0 +1,30 @@
+-- Long-form posts. Content becomes unbounded text. Once a row grows past toast_tuple_target the
+-- content is compressed (lz4 where the server was built with it, pglz otherwise) and, if still too
+-- large, moved out of line into the TOAST table, so the heap pages that listings and lookups scan
+-- stay small. Listings select only substring(content, 1, n), which Postgres serves from a partial
+-- decompression; the full text is read only when a single post is loaded.
+
+-- the search vector is generated from content, so it is rebuilt around the type change
+drop index if exists idx_post_search;
+alter table post_entity drop column if exists search_vector;
+
+alter table post_entity alter column content type text;
+
+alter table post_entity
+    add column search_vector tsvector
+        generated always as (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(content, '')), 'B')
+        ) stored;
+
+create index if not exists idx_post_search on post_entity using gin (search_vector);
+
+alter table post_entity set (toast_tuple_target = 1024);
+
+do $$
+begin
+    if exists (select 1 from pg_settings where name = 'default_toast_compression' and 'lz4' = any (enumvals)) then
+        alter table post_entity alter column content set compression lz4;
+    end if;
+end
+$$;
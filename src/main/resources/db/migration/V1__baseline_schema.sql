@@ -0,0 +1,40 @@
+-- Schema as previously created by hibernate ddl-auto=update. Every statement is
+-- guarded so databases that already have these tables are left untouched.
+
+create table if not exists user_entity (
+    id             bigint generated by default as identity primary key,
+    email          varchar(255),
+    email_verified boolean not null,
+    enabled        boolean not null,
+    first_name     varchar(255),
+    last_name      varchar(255),
+    password       varchar(255),
+    role           varchar(255),
+    username       varchar(255)
+);
+
+create table if not exists post_entity (
+    id             bigint generated by default as identity primary key,
+    content        varchar(255),
+    published_date timestamp(6),
+    title          varchar(255),
+    updated_date   timestamp(6),
+    user_id        bigint constraint fk2jmp42lmrw2f3ljd16f1re3c8 references user_entity (id)
+);
+
+create table if not exists comment_entity (
+    id           bigint generated by default as identity primary key,
+    commented_at timestamp(6),
+    content      varchar(255),
+    post_id      bigint constraint fk5q5av5arkm3of9b5n493p992p references post_entity (id),
+    user_id      bigint constraint fk7u6osru73338guaca8ukops8l references user_entity (id)
+);
+
+create table if not exists user_entity_posts (
+    user_entity_id bigint not null constraint fkglgtx1pcn93rspmbbii96ir52 references user_entity (id),
+    posts_id       bigint not null constraint uk45u3gv65or3vlwjr2ebbfqc4b unique
+                                   constraint fk99anp6xfgila78xtnbxlgk93g references post_entity (id)
+);
+
+create index if not exists idx_post_user_published on post_entity (user_id, published_date desc, id desc);
+create index if not exists idx_comment_post_commented on comment_entity (post_id, commented_at, id);
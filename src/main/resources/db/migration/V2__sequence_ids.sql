@@ -0,0 +1,16 @@
+-- Move ids from identity columns to sequences Hibernate can pre-allocate from
+-- (pooled optimizer, allocation size 50), so inserts can be batched.
+-- With the pooled optimizer a sequence value marks the top of a block of 50 ids,
+-- so existing tables resume at max(id) and the next block starts at max(id) + 1.
+
+create sequence if not exists user_entity_seq start with 1 increment by 50;
+create sequence if not exists post_entity_seq start with 1 increment by 50;
+create sequence if not exists comment_entity_seq start with 1 increment by 50;
+
+select setval('user_entity_seq', max(id)) from user_entity having max(id) is not null;
+select setval('post_entity_seq', max(id)) from post_entity having max(id) is not null;
+select setval('comment_entity_seq', max(id)) from comment_entity having max(id) is not null;
+
+alter table user_entity alter column id drop identity if exists;
+alter table post_entity alter column id drop identity if exists;
+alter table comment_entity alter column id drop identity if exists;
@@ -0,0 +1,7 @@
+-- Indexes for the lookups on the request path. The posts-by-user and
+-- comments-by-post keyset indexes already exist from V1.
+
+create index if not exists idx_post_user_title on post_entity (user_id, title);
+
+-- Fails if two accounts differ only in email case; merge those before migrating.
+create unique index if not exists ux_user_email_lower on user_entity (lower(email));
@@ -0,0 +1,7 @@
+-- A user cannot have two posts with the same title. The constraint replaces the
+-- existsByTitleAndUserId pre-check, and its index replaces idx_post_user_title.
+-- Existing duplicate titles must be renamed before this migration can run.
+
+alter table post_entity add constraint uk_post_user_title unique (user_id, title);
+
+drop index if exists idx_post_user_title;
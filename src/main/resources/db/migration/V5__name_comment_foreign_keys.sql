@@ -0,0 +1,5 @@
+-- Give the comment foreign keys stable names so constraint violations can be
+-- told apart in code. The old names are the ones hibernate generated.
+
+alter table comment_entity rename constraint fk5q5av5arkm3of9b5n493p992p to fk_comment_post;
+alter table comment_entity rename constraint fk7u6osru73338guaca8ukops8l to fk_comment_user;
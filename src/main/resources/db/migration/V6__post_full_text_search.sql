@@ -0,0 +1,12 @@
+-- Full-text search over post titles and content. The vector is a stored
+-- generated column, so every insert and update from savePost keeps it current
+-- and searches never re-parse the text. Title matches rank above content matches.
+
+alter table post_entity
+    add column if not exists search_vector tsvector
+        generated always as (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(content, '')), 'B')
+        ) stored;
+
+create index if not exists idx_post_search on post_entity using gin (search_vector);
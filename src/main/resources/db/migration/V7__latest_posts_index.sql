@@ -0,0 +1,3 @@
+-- Keyset index for the global feed once a reader scrolls past the in-memory timeline.
+
+create index if not exists idx_post_published on post_entity (published_date desc, id desc);
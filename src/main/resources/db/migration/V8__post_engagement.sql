@@ -0,0 +1,12 @@
+-- Per-bucket engagement behind the trending ranking. Each node adds its own deltas;
+-- buckets older than the trending window are pruned by the application.
+
+create table if not exists post_engagement (
+    post_id      bigint                   not null,
+    bucket_start timestamp with time zone not null,
+    views        bigint                   not null default 0,
+    comments     bigint                   not null default 0,
+    primary key (post_id, bucket_start)
+);
+
+create index if not exists idx_post_engagement_bucket on post_engagement (bucket_start);
@@ -0,0 +1,4 @@
+-- View counts are written in batches by the application, never through the entity.
+-- A constant default does not rewrite the table.
+
+alter table post_entity add column if not exists view_count bigint not null default 0;
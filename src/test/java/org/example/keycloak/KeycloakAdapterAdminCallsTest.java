@@ -0,0 +1,143 @@
+package org.example.keycloak;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.exceptions.IdentityManagerException;
+import org.example.domain.exceptions.UserAlreadyExistException;
+import org.example.domain.models.User;
+import org.example.infrastructure.adapters.output.keycloak.KeycloakAdapter;
+import org.example.infrastructure.adapters.output.keycloak.KeycloakRoleCache;
+import org.example.infrastructure.adapters.output.keycloak.UserEmailBloomFilter;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KeycloakAdapterAdminCallsTest {
+
+    private static final String REALM = "UserIdentity";
+
+    private HttpServer stubKeycloak;
+    private Keycloak keycloak;
+    private KeycloakAdapter keycloakAdapter;
+    private final List<String> adminCalls = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubKeycloak = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubKeycloak.createContext("/", this::handle);
+        stubKeycloak.start();
+
+        keycloak = KeycloakBuilder.builder()
+                .serverUrl("http://localhost:" + stubKeycloak.getAddress().getPort())
+                .realm(REALM)
+                .clientId("identity")
+                .clientSecret("secret")
+                .grantType("client_credentials")
+                .build();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+        UserEmailBloomFilter userEmailBloomFilter = new UserEmailBloomFilter(userRepository, 1_000, 0.01);
+        userEmailBloomFilter.seed();
+
+        keycloakAdapter = new KeycloakAdapter(keycloak);
+        ReflectionTestUtils.setField(keycloakAdapter, "realm", REALM);
+        ReflectionTestUtils.setField(keycloakAdapter, "userEmailBloomFilter", userEmailBloomFilter);
+        ReflectionTestUtils.setField(keycloakAdapter, "keycloakRoleCache",
+                new KeycloakRoleCache(keycloak, new SimpleMeterRegistry(), REALM, Duration.ofMinutes(10)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        keycloak.close();
+        stubKeycloak.stop(0);
+    }
+
+    @Test
+    public void testThatSignupMakesOnlyCreateRoleLookupAndRoleMappingCalls() throws IdentityManagerException, UserAlreadyExistException {
+        keycloakAdapter.createUser(newUser("first@example.com"));
+
+        assertEquals(List.of(
+                "POST /admin/realms/UserIdentity/users",
+                "GET /admin/realms/UserIdentity/roles/user",
+                "POST /admin/realms/UserIdentity/users/{id}/role-mappings/realm"
+        ), adminCalls);
+    }
+
+    @Test
+    public void testThatRoleRepresentationIsReusedAcrossSignups() throws IdentityManagerException, UserAlreadyExistException {
+        keycloakAdapter.createUser(newUser("first@example.com"));
+        adminCalls.clear();
+
+        keycloakAdapter.createUser(newUser("second@example.com"));
+
+        assertEquals(List.of(
+                "POST /admin/realms/UserIdentity/users",
+                "POST /admin/realms/UserIdentity/users/{id}/role-mappings/realm"
+        ), adminCalls);
+    }
+
+    private User newUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setUsername(email);
+        user.setPassword("password");
+        user.setFirstName("first");
+        user.setLastName("last");
+        user.setRole("user");
+        return user;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        exchange.getRequestBody().readAllBytes();
+
+        if (path.endsWith("/protocol/openid-connect/token")) {
+            respond(exchange, 200, "{\"access_token\":\"token\",\"expires_in\":300,\"refresh_expires_in\":0,\"token_type\":\"Bearer\"}");
+            return;
+        }
+
+        adminCalls.add(method + " " + path.replaceAll("/users/[0-9a-f-]{36}", "/users/{id}"));
+        if (method.equals("POST") && path.endsWith("/users")) {
+            exchange.getResponseHeaders().add("Location", "http://localhost" + path + "/" + UUID.randomUUID());
+            respond(exchange, 201, null);
+        } else if (method.equals("GET") && path.endsWith("/roles/user")) {
+            respond(exchange, 200, "{\"id\":\"" + UUID.randomUUID() + "\",\"name\":\"user\"}");
+        } else if (method.equals("POST") && path.endsWith("/role-mappings/realm")) {
+            respond(exchange, 204, null);
+        } else {
+            respond(exchange, 404, null);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+}
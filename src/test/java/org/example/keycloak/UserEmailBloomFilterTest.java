@@ -0,0 +1,66 @@
+package org.example.keycloak;
+
+import org.example.infrastructure.adapters.output.keycloak.UserEmailBloomFilter;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserEmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserEmailBloomFilter userEmailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        userEmailBloomFilter = new UserEmailBloomFilter(userRepository, 10_000, 0.01);
+    }
+
+    @Test
+    public void testThatEveryEmailIsReportedPresent_BeforeSeeding() {
+        assertTrue(userEmailBloomFilter.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    public void testThatSeededEmailsAreNeverReportedAbsent() {
+        when(userRepository.streamAllEmails()).thenReturn(IntStream.range(0, 5_000).mapToObj(i -> "user" + i + "@example.com"));
+
+        userEmailBloomFilter.seed();
+
+        IntStream.range(0, 5_000).forEach(i -> assertTrue(userEmailBloomFilter.mightContain("user" + i + "@example.com")));
+        assertTrue(userEmailBloomFilter.mightContain("USER42@Example.com"));
+    }
+
+    @Test
+    public void testThatUnknownEmailsAreMostlyReportedAbsent() {
+        when(userRepository.streamAllEmails()).thenReturn(IntStream.range(0, 5_000).mapToObj(i -> "user" + i + "@example.com"));
+
+        userEmailBloomFilter.seed();
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> userEmailBloomFilter.mightContain("stranger" + i + "@example.com"))
+                .count();
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testThatEmailAddedAfterSeedingIsReportedPresent() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+        userEmailBloomFilter.seed();
+
+        assertFalse(userEmailBloomFilter.mightContain("new@example.com"));
+        userEmailBloomFilter.put("new@example.com");
+        assertTrue(userEmailBloomFilter.mightContain("new@example.com"));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.user;
+
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CacheInvalidationPublisherTest {
+
+    private static final String NOTIFY = "select pg_notify(?, ?)";
+
+    private JdbcTemplate jdbcTemplate;
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        cacheInvalidationPublisher = new CacheInvalidationPublisher(jdbcTemplate, "cache_invalidation");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    public void testThatEventIsSentImmediatelyOutsideATransaction() {
+        cacheInvalidationPublisher.publish(CachedEntity.POST, 1L);
+
+        assertEquals(nodeId() + "|POST:1", sentPayload());
+    }
+
+    @Test
+    public void testThatEventsInATransactionAreSentOnceBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        cacheInvalidationPublisher.publish(CachedEntity.POST, 1L);
+        cacheInvalidationPublisher.publish(CachedEntity.COMMENT, 7L);
+        cacheInvalidationPublisher.publish(CachedEntity.POST, 1L);
+        verifyNoInteractions(jdbcTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(nodeId() + "|POST:1,COMMENT:7", sentPayload());
+        assertNull(TransactionSynchronizationManager.getResource(cacheInvalidationPublisher));
+    }
+
+    @Test
+    public void testThatRolledBackTransactionSendsNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        cacheInvalidationPublisher.publish(CachedEntity.USER, 3L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(jdbcTemplate);
+        assertNull(TransactionSynchronizationManager.getResource(cacheInvalidationPublisher));
+    }
+
+    private String nodeId() {
+        return cacheInvalidationPublisher.getNodeId();
+    }
+
+    private String sentPayload() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(eq(NOTIFY), any(ResultSetExtractor.class), eq("cache_invalidation"), payload.capture());
+        return (String) payload.getValue();
+    }
+}
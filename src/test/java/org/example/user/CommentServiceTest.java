@@ -1,12 +1,15 @@
 package org.example.user;
 
 import org.example.application.port.output.CommentPersistenceOutputPort;
+import org.example.application.port.output.PostCacheOutputPort;
+import org.example.application.port.output.PostFeedOutputPort;
 import org.example.application.port.output.PostPersistenceOutputPort;
-import org.example.application.port.output.UserPersistenceOutputPort;
+import org.example.application.port.output.TrendingOutputPort;
 import org.example.domain.exceptions.CommentNotFoundException;
 import org.example.domain.exceptions.PostNotFoundException;
-import org.example.domain.exceptions.UserNotFoundException;
 import org.example.domain.models.Comment;
+import org.example.domain.models.CommentSummary;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
 import org.example.domain.models.User;
 import org.example.domain.services.CommentService;
@@ -20,26 +23,39 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
 
-    @Mock
-    private UserPersistenceOutputPort userPersistenceOutputPort;
-
     @Mock
     private PostPersistenceOutputPort postPersistenceOutputPort;
 
     @Mock
     private CommentPersistenceOutputPort commentPersistenceOutputPort;
 
+    @Mock
+    private TrendingOutputPort trendingOutputPort;
+
+    @Mock
+    private PostCacheOutputPort postCacheOutputPort;
+
+    @Mock
+    private PostFeedOutputPort postFeedOutputPort;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -58,60 +74,66 @@ class CommentServiceTest {
     }
 
     @Test
-    void writeComment_shouldSaveCommentSuccessfully() throws UserNotFoundException, PostNotFoundException, UserNotFoundException, PostNotFoundException {
+    void writeComment_shouldSaveCommentSuccessfully() throws PostNotFoundException {
 
         Comment comment = new Comment();
         comment.setContent("This is a comment");
 
-        when(userPersistenceOutputPort.getUserById(user.getId())).thenReturn(user);
-        when(postPersistenceOutputPort.getPostById(post.getId())).thenReturn(post);
-        when(commentPersistenceOutputPort.saveComment(any(Comment.class)))
+        when(commentPersistenceOutputPort.saveCommentOnPost(any(Comment.class), eq(user.getId()), eq(post.getId())))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(postPersistenceOutputPort.adjustCommentCount(post.getId(), 1)).thenReturn(3L);
 
         Comment savedComment = commentService.writeComment(comment, user, post.getId());
 
         assertEquals("This is a comment", savedComment.getContent());
-        assertEquals(post, savedComment.getPost());
         assertEquals(user, savedComment.getUser());
         assertNotNull(savedComment.getCommentedAt());
 
-        verify(userPersistenceOutputPort).getUserById(user.getId());
-        verify(postPersistenceOutputPort).getPostById(post.getId());
-        verify(commentPersistenceOutputPort).saveComment(any(Comment.class));
+        verify(commentPersistenceOutputPort).saveCommentOnPost(any(Comment.class), eq(user.getId()), eq(post.getId()));
+        verify(trendingOutputPort).recordComment(post.getId());
+        verify(postPersistenceOutputPort).adjustCommentCount(post.getId(), 1);
+        verify(postCacheOutputPort).evictPost(post.getId());
+        verify(postFeedOutputPort).updateCommentCount(post.getId(), 3L);
     }
 
     @Test
-    void writeComment_shouldThrowUserNotFoundException_whenUserDoesNotExist() throws UserNotFoundException {
-
+    void writeComment_shouldUpdateCachedCountsOnlyAfterCommit() throws PostNotFoundException {
         Comment comment = new Comment();
-        comment.setContent("Comment");
+        comment.setContent("This is a comment");
+        when(commentPersistenceOutputPort.saveCommentOnPost(any(Comment.class), eq(user.getId()), eq(post.getId())))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(postPersistenceOutputPort.adjustCommentCount(post.getId(), 1)).thenReturn(3L);
 
-        when(userPersistenceOutputPort.getUserById(user.getId()))
-                .thenThrow(new UserNotFoundException(ErrorMessages.USER_NOT_FOUND));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            commentService.writeComment(comment, user, post.getId());
 
-        assertThrows(UserNotFoundException.class,
-                () -> commentService.writeComment(comment, user, post.getId()));
+            verify(postPersistenceOutputPort).adjustCommentCount(post.getId(), 1);
+            verifyNoInteractions(postCacheOutputPort, postFeedOutputPort, trendingOutputPort);
 
-        verify(userPersistenceOutputPort).getUserById(user.getId());
-        verifyNoInteractions(postPersistenceOutputPort, commentPersistenceOutputPort);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(postCacheOutputPort).evictPost(post.getId());
+        verify(postFeedOutputPort).updateCommentCount(post.getId(), 3L);
+        verify(trendingOutputPort).recordComment(post.getId());
     }
 
     @Test
-    void writeComment_shouldThrowPostNotFoundException_whenPostDoesNotExist() throws UserNotFoundException, PostNotFoundException {
+    void writeComment_shouldThrowPostNotFoundException_whenPostDoesNotExist() throws PostNotFoundException {
 
         Comment comment = new Comment();
         comment.setContent("Comment");
 
-        when(userPersistenceOutputPort.getUserById(user.getId())).thenReturn(user);
-        when(postPersistenceOutputPort.getPostById(post.getId()))
+        when(commentPersistenceOutputPort.saveCommentOnPost(any(Comment.class), eq(user.getId()), eq(post.getId())))
                 .thenThrow(new PostNotFoundException(ErrorMessages.POST_NOT_FOUND));
 
         assertThrows(PostNotFoundException.class,
                 () -> commentService.writeComment(comment, user, post.getId()));
 
-        verify(userPersistenceOutputPort).getUserById(user.getId());
-        verify(postPersistenceOutputPort).getPostById(post.getId());
-        verifyNoInteractions(commentPersistenceOutputPort);
+        verifyNoInteractions(postPersistenceOutputPort, trendingOutputPort);
     }
 
     static Stream<String> invalidInputs() {
@@ -129,21 +151,66 @@ class CommentServiceTest {
     }
 
     @Test
-    void viewAllPostCommentsByPostId_shouldReturnListOfComments_whenPostExists() throws PostNotFoundException {
+    void viewAllPostCommentsByPostId_shouldReturnPageOfComments_whenPostExists() throws PostNotFoundException {
         Long postId = 1L;
-        Post post = new Post();
-        post.setId(postId);
 
-        List<Comment> comments = List.of(new Comment(), new Comment());
+        CursorPage<CommentSummary> comments = new CursorPage<>(List.of(summary(1L), summary(2L)), "next");
 
-        when(postPersistenceOutputPort.getPostById(postId)).thenReturn(post);
-        when(commentPersistenceOutputPort.getAllCommentsByPostId(postId)).thenReturn(comments);
+        when(postPersistenceOutputPort.existsById(postId)).thenReturn(true);
+        when(commentPersistenceOutputPort.getCommentsByPostId(postId, null, 50)).thenReturn(comments);
 
-        List<Comment> result = commentService.viewAllPostCommentsByPostId(postId);
+        CursorPage<CommentSummary> result = commentService.viewAllPostCommentsByPostId(postId, null, 50);
 
-        assertEquals(2, result.size());
-        verify(postPersistenceOutputPort).getPostById(postId);
-        verify(commentPersistenceOutputPort).getAllCommentsByPostId(postId);
+        assertEquals(2, result.getItems().size());
+        assertEquals("next", result.getNextCursor());
+        verify(postPersistenceOutputPort).existsById(postId);
+        verify(commentPersistenceOutputPort).getCommentsByPostId(postId, null, 50);
+    }
+
+    @Test
+    void viewAllPostCommentsByPostId_shouldCapPageSize() throws PostNotFoundException {
+        Long postId = 1L;
+
+        when(postPersistenceOutputPort.existsById(postId)).thenReturn(true);
+        when(commentPersistenceOutputPort.getCommentsByPostId(postId, "cursor", 100)).thenReturn(new CursorPage<>(List.of(), null));
+
+        commentService.viewAllPostCommentsByPostId(postId, "cursor", 5_000);
+
+        verify(commentPersistenceOutputPort).getCommentsByPostId(postId, "cursor", 100);
+    }
+
+    @Test
+    void viewAllPostCommentsByPostId_shouldThrowPostNotFound_whenPostDoesNotExist() {
+        when(postPersistenceOutputPort.existsById(99L)).thenReturn(false);
+
+        assertThrows(PostNotFoundException.class, () -> commentService.viewAllPostCommentsByPostId(99L, null, 50));
+        verifyNoInteractions(commentPersistenceOutputPort);
+    }
+
+    @Test
+    void streamAllPostCommentsByPostId_shouldPassEveryCommentToConsumer() throws PostNotFoundException {
+        Long postId = 1L;
+        List<CommentSummary> streamed = new ArrayList<>();
+
+        when(postPersistenceOutputPort.existsById(postId)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<CommentSummary> consumer = invocation.getArgument(1);
+            consumer.accept(summary(1L));
+            consumer.accept(summary(2L));
+            return null;
+        }).when(commentPersistenceOutputPort).streamCommentsByPostId(eq(postId), any());
+
+        commentService.streamAllPostCommentsByPostId(postId, streamed::add);
+
+        assertEquals(2, streamed.size());
+    }
+
+    @Test
+    void streamAllPostCommentsByPostId_shouldThrowPostNotFound_beforeStreaming() {
+        when(postPersistenceOutputPort.existsById(99L)).thenReturn(false);
+
+        assertThrows(PostNotFoundException.class, () -> commentService.streamAllPostCommentsByPostId(99L, comment -> fail()));
+        verifyNoInteractions(commentPersistenceOutputPort);
     }
 
 
@@ -167,11 +234,15 @@ class CommentServiceTest {
         comment.setUser(currentUser);
 
         when(commentPersistenceOutputPort.getCommentByIdAndPostId(commentId, postId)).thenReturn(comment);
+        when(commentPersistenceOutputPort.deleteCommentById(commentId)).thenReturn(true);
+        when(postPersistenceOutputPort.adjustCommentCount(postId, -1)).thenReturn(0L);
 
         commentService.deleteComment(commentId, postId, currentUser);
 
         verify(commentPersistenceOutputPort).getCommentByIdAndPostId(commentId, postId);
         verify(commentPersistenceOutputPort).deleteCommentById(commentId);
+        verify(postPersistenceOutputPort).adjustCommentCount(postId, -1);
+        verify(postFeedOutputPort).updateCommentCount(postId, 0L);
     }
 
     @Test
@@ -201,6 +272,8 @@ class CommentServiceTest {
 
         verify(commentPersistenceOutputPort).getCommentByIdAndPostId(commentId, postId);
         verify(commentPersistenceOutputPort).deleteCommentById(commentId);
+        // already deleted by a concurrent request, so the count is left alone
+        verify(postPersistenceOutputPort, never()).adjustCommentCount(any(), anyLong());
     }
 
 
@@ -260,11 +333,7 @@ class CommentServiceTest {
         verify(commentPersistenceOutputPort, never()).deleteCommentById(any());
     }
 
-
-
-
-
-
-
-
+    private static CommentSummary summary(Long id) {
+        return new CommentSummary(id, "content", LocalDateTime.now());
+    }
 }
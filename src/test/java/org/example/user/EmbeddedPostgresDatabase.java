@@ -0,0 +1,83 @@
+package org.example.user;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// One throwaway Postgres per test run for the tests that need the real schema; Flyway migrates it
+// with the first context that starts and every later context finds it up to date.
+final class EmbeddedPostgresDatabase {
+
+    // can read every table but write none, like a connection to a hot standby
+    static final String READ_ONLY_USER = "replica_reader";
+
+    private static EmbeddedPostgres postgres;
+    private static String replicaUrl;
+
+    private EmbeddedPostgresDatabase() {
+    }
+
+    static synchronized String url() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("create role " + READ_ONLY_USER + " login");
+                statement.execute("alter default privileges in schema public grant select on tables to " + READ_ONLY_USER);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the data directory is temporary anyway
+                }
+            }));
+        }
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+    }
+
+    // a second database with the same schema that never receives the primary's writes, like a replica
+    // that has fallen behind; only READ_ONLY_USER connects to it
+    static synchronized String replicaUrl() {
+        if (replicaUrl == null) {
+            String primaryUrl = url();
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("create database lagging_replica");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            String url = primaryUrl.substring(0, primaryUrl.lastIndexOf('/') + 1) + "lagging_replica";
+            Flyway.configure()
+                    .dataSource(url, "postgres", "")
+                    .load()
+                    .migrate();
+            try (Connection connection = postgres.getDatabase("postgres", "lagging_replica").getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("grant select on all tables in schema public to " + READ_ONLY_USER);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            replicaUrl = url;
+        }
+        return replicaUrl;
+    }
+
+    static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedPostgresDatabase::url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.output.UserPersistenceOutputPort;
+import org.example.domain.exceptions.UserNotFoundException;
+import org.example.domain.models.User;
+import org.example.infrastructure.adapters.config.JwtAuthConverter;
+import org.example.infrastructure.adapters.config.security.AuthenticatedUserCache;
+import org.example.infrastructure.adapters.config.security.TokenAuthoritiesCache;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.persistence.adapter.UserPersistenceAdapter;
+import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
+import org.example.infrastructure.adapters.output.persistence.mapper.UserPersistenceMapper;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthConverterTest {
+
+    private static final String EMAIL = "ada@example.com";
+
+    @Mock
+    private UserPersistenceOutputPort userPersistenceOutputPort;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserPersistenceMapper userPersistenceMapper;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Spy
+    private AuthenticatedUserCache authenticatedUserCache = new AuthenticatedUserCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    private JwtAuthConverter jwtAuthConverter;
+
+    @BeforeEach
+    void setUp() {
+        TokenAuthoritiesCache tokenAuthoritiesCache = new TokenAuthoritiesCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        jwtAuthConverter = new JwtAuthConverter(userPersistenceOutputPort, authenticatedUserCache, tokenAuthoritiesCache);
+    }
+
+    // a fresh token each time, so only the user cache can spare the lookup
+    @Test
+    void convert_shouldLoadTheUserOnce_forRepeatedTokensOfTheSameUser() throws UserNotFoundException {
+        when(userPersistenceOutputPort.getUserByEmail(EMAIL)).thenReturn(user("Ada"));
+
+        User first = (User) jwtAuthConverter.convert(jwt("first-token")).getPrincipal();
+        User second = (User) jwtAuthConverter.convert(jwt("second-token")).getPrincipal();
+
+        assertSame(first, second);
+        verify(userPersistenceOutputPort, times(1)).getUserByEmail(EMAIL);
+    }
+
+    @Test
+    void saveUser_shouldEvictTheCachedUser() throws UserNotFoundException {
+        when(userPersistenceOutputPort.getUserByEmail(EMAIL)).thenReturn(user("Ada"), user("Augusta"));
+        jwtAuthConverter.convert(jwt("first-token"));
+
+        UserEntity entity = new UserEntity();
+        when(userPersistenceMapper.toEntity(any(User.class))).thenReturn(entity);
+        when(userRepository.save(entity)).thenReturn(entity);
+        when(userPersistenceMapper.toModel(entity)).thenReturn(user("Augusta"));
+        userPersistenceAdapter.saveUser(user("Augusta"));
+
+        User reloaded = (User) jwtAuthConverter.convert(jwt("second-token")).getPrincipal();
+
+        assertEquals("Augusta", reloaded.getFirstName());
+        verify(userPersistenceOutputPort, times(2)).getUserByEmail(EMAIL);
+    }
+
+    private static User user(String firstName) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setUsername("ada");
+        user.setFirstName(firstName);
+        return user;
+    }
+
+    private static Jwt jwt(String tokenValue) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("keycloak-id")
+                .claim("email", EMAIL)
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofMinutes(5)))
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.Post;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.example.infrastructure.adapters.output.cache.PostCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostCacheAdapterTest {
+
+    private PostCacheAdapter postCacheAdapter;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        postCacheAdapter = new PostCacheAdapter(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofSeconds(30),
+                DataSize.ofKilobytes(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testThatConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Post>> views = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                views.add(executor.submit(() -> {
+                    start.await();
+                    return view(1L);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Post> view : views) {
+                assertEquals("Post 1", view.get(5, TimeUnit.SECONDS).getTitle());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testThatMissingPostsAreCached() {
+        for (int i = 0; i < 3; i++) {
+            PostNotFoundException exception = assertThrows(PostNotFoundException.class,
+                    () -> postCacheAdapter.getPost(404L, this::missing));
+            assertEquals(ErrorMessages.POST_NOT_FOUND, exception.getMessage());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testThatEvictedPostIsLoadedAgain() throws PostNotFoundException {
+        assertThrows(PostNotFoundException.class, () -> postCacheAdapter.getPost(1L, this::missing));
+
+        postCacheAdapter.evictPost(1L);
+
+        assertEquals("Post 1", postCacheAdapter.getPost(1L, this::slowLoad).getTitle());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testThatConcurrentContentMissesShareOneLoad() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> reads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return read(1L);
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> read : reads) {
+                assertEquals("Body 1", read.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testThatEvictingAPostDropsItsContent() throws PostNotFoundException {
+        assertEquals("Body 1", postCacheAdapter.getContent(1L, this::slowContent));
+        assertEquals("Body 1", postCacheAdapter.getContent(1L, this::slowContent));
+
+        postCacheAdapter.evict(CachedEntity.POST, 1L);
+
+        assertEquals("Body 1", postCacheAdapter.getContent(1L, this::slowContent));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testThatContentOfAMissingPostIsCached() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(PostNotFoundException.class, () -> postCacheAdapter.getContent(404L, id -> {
+                loads.incrementAndGet();
+                throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+            }));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    // 1KB holds one 400 char body but not two
+    @Test
+    public void testThatContentIsBoundedBySize() throws PostNotFoundException {
+        String body = "x".repeat(400);
+        postCacheAdapter.getContent(1L, id -> body);
+        postCacheAdapter.getContent(2L, id -> body);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        int cached;
+        do {
+            cached = 0;
+            for (long id = 1; id <= 2; id++) {
+                AtomicInteger contentLoads = new AtomicInteger();
+                postCacheAdapter.getContent(id, key -> {
+                    contentLoads.incrementAndGet();
+                    return body;
+                });
+                cached += contentLoads.get() == 0 ? 1 : 0;
+            }
+        } while (cached > 1 && System.nanoTime() < deadline);
+        assertTrue(cached <= 1);
+    }
+
+    private Post view(Long id) {
+        try {
+            return postCacheAdapter.getPost(id, this::slowLoad);
+        } catch (PostNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private Post slowLoad(Long id) {
+        loads.incrementAndGet();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("Post " + id);
+        return post;
+    }
+
+    private String read(Long id) {
+        try {
+            return postCacheAdapter.getContent(id, this::slowContent);
+        } catch (PostNotFoundException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private String slowContent(Long id) {
+        loads.incrementAndGet();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "Body " + id;
+    }
+
+    private Post missing(Long id) throws PostNotFoundException {
+        loads.incrementAndGet();
+        throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.models.CursorPage;
+import org.example.domain.models.PostSummary;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.example.infrastructure.adapters.output.cache.PostFeedAdapter;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PostFeedAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private PostFeedAdapter postFeedAdapter;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postFeedAdapter = new PostFeedAdapter(postRepository, new SimpleMeterRegistry(), 5);
+    }
+
+    @Test
+    public void testThatNothingIsServedBeforeSeeding() {
+        assertTrue(postFeedAdapter.getLatestPosts(null, 2).isEmpty());
+    }
+
+    @Test
+    public void testThatPagesWithinTheRingAreServedFromMemory() {
+        seed(10, 9, 8, 7, 6);
+
+        CursorPage<PostSummary> first = postFeedAdapter.getLatestPosts(null, 2).orElseThrow();
+        CursorPage<PostSummary> second = postFeedAdapter.getLatestPosts(first.getNextCursor(), 2).orElseThrow();
+
+        assertEquals(List.of(10L, 9L), ids(first));
+        assertEquals(List.of(8L, 7L), ids(second));
+        assertTrue(second.hasNext());
+    }
+
+    @Test
+    public void testThatPagesPastTheRingFallBack() {
+        seed(10, 9, 8, 7, 6);
+
+        CursorPage<PostSummary> first = postFeedAdapter.getLatestPosts(null, 4).orElseThrow();
+
+        assertTrue(postFeedAdapter.getLatestPosts(first.getNextCursor(), 4).isEmpty());
+    }
+
+    @Test
+    public void testThatTheLastPageIsServedWhenTheRingHoldsEveryPost() {
+        seed(3, 2, 1);
+
+        CursorPage<PostSummary> page = postFeedAdapter.getLatestPosts(null, 5).orElseThrow();
+
+        assertEquals(List.of(3L, 2L, 1L), ids(page));
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void testThatNewPostsPushOutTheOldest() {
+        seed(10, 9, 8, 7, 6);
+
+        postFeedAdapter.putPost(post(11));
+
+        assertEquals(List.of(11L, 10L, 9L, 8L), ids(postFeedAdapter.getLatestPosts(null, 4).orElseThrow()));
+        assertTrue(postFeedAdapter.getLatestPosts(null, 5).isEmpty());
+    }
+
+    @Test
+    public void testThatEditsAndDeletesAreApplied() {
+        seed(3, 2, 1);
+
+        postFeedAdapter.putPost(new PostSummary(2L, "edited", "content", START.plusMinutes(2), 0));
+        postFeedAdapter.removePost(3L);
+
+        List<PostSummary> posts = postFeedAdapter.getLatestPosts(null, 5).orElseThrow().getItems();
+        assertEquals(List.of(2L, 1L), posts.stream().map(PostSummary::id).toList());
+        assertEquals("edited", posts.get(0).title());
+    }
+
+    @Test
+    public void testThatCommentCountsAreUpdatedInPlace() {
+        seed(3, 2, 1);
+
+        postFeedAdapter.updateCommentCount(2L, 7);
+        postFeedAdapter.updateCommentCount(42L, 1);
+
+        List<PostSummary> posts = postFeedAdapter.getLatestPosts(null, 5).orElseThrow().getItems();
+        assertEquals(List.of(0L, 7L, 0L), posts.stream().map(PostSummary::commentCount).toList());
+        assertEquals(List.of(3L, 2L, 1L), posts.stream().map(PostSummary::id).toList());
+    }
+
+    @Test
+    public void testThatPostsOlderThanAPartialRingAreNotAdded() {
+        seed(10, 9, 8, 7, 6);
+        postFeedAdapter.removePost(10L);
+
+        postFeedAdapter.putPost(post(1));
+
+        assertEquals(List.of(9L, 8L, 7L), ids(postFeedAdapter.getLatestPosts(null, 3).orElseThrow()));
+        assertTrue(postFeedAdapter.getLatestPosts(null, 4).isEmpty());
+    }
+
+    @Test
+    public void testThatRemoteChangesAreReloaded() {
+        seed(2, 1);
+        when(postRepository.findSummaryById(3L)).thenReturn(Optional.of(post(3)));
+        when(postRepository.findSummaryById(1L)).thenReturn(Optional.empty());
+
+        postFeedAdapter.evict(CachedEntity.POST, 3L);
+        postFeedAdapter.evict(CachedEntity.POST, 1L);
+
+        assertEquals(List.of(3L, 2L), ids(postFeedAdapter.getLatestPosts(null, 5).orElseThrow()));
+    }
+
+    private void seed(long... ids) {
+        when(postRepository.findLatestPosts(any())).thenReturn(LongStream.of(ids).mapToObj(PostFeedAdapterTest::post).toList());
+        postFeedAdapter.seed();
+    }
+
+    private static PostSummary post(long id) {
+        return new PostSummary(id, "Post " + id, "content", START.plusMinutes(id), 0);
+    }
+
+    private static List<Long> ids(CursorPage<PostSummary> page) {
+        return page.getItems().stream().map(PostSummary::id).toList();
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.user;
+
+import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every repository call runs in its own transaction and session, as it does behind the services,
+// so a repeated lookup can only avoid the database through the second-level cache.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PostSecondLevelCacheTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = new UserEntity();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setUsername("cached");
+        user.setEnabled(true);
+        user = userRepository.save(user);
+
+        PostEntity post = new PostEntity();
+        post.setTitle("Cached " + UUID.randomUUID());
+        post.setContent("Served from memory");
+        post.setPublishedDate(LocalDateTime.now());
+        post.setUser(user);
+        postId = postRepository.save(post).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testThatARepeatedLookupIsServedFromTheCache() {
+        PostEntity first = postRepository.findWithUserById(postId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        PostEntity second = postRepository.findWithUserById(postId).orElseThrow();
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(first.getTitle(), second.getTitle());
+        assertEquals(first.getUser().getEmail(), second.getUser().getEmail());
+    }
+
+    @Test
+    public void testThatSavingThePostInvalidatesTheCachedLookup() {
+        PostEntity post = postRepository.findWithUserById(postId).orElseThrow();
+        post.setTitle("Edited " + UUID.randomUUID());
+        postRepository.save(post);
+        long statements = statistics.getPrepareStatementCount();
+
+        PostEntity reloaded = postRepository.findWithUserById(postId).orElseThrow();
+
+        assertEquals(post.getTitle(), reloaded.getTitle());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getPrepareStatementCount() > statements);
+    }
+
+    @Test
+    public void testThatTheContentIsNeitherLoadedWithThePostNorCached() {
+        // an edit writes the whole state, body included, back to the cache unless lazy attributes are left out
+        PostEntity post = postRepository.findWithUserById(postId).orElseThrow();
+        PostEntity edited = new PostEntity();
+        edited.setId(postId);
+        edited.setTitle(post.getTitle());
+        edited.setUser(post.getUser());
+        edited.setPublishedDate(post.getPublishedDate());
+        edited.setContent("Rewritten body");
+        postRepository.save(edited);
+        long statements = statistics.getPrepareStatementCount();
+
+        PostEntity cached = postRepository.findById(postId).orElseThrow();
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isPropertyInitialized(cached, "content"));
+        assertEquals("Rewritten body", postRepository.findContentById(postId).orElseThrow());
+    }
+}
@@ -1,13 +1,23 @@
 package org.example.user;
 
+import org.example.application.port.output.PostCacheOutputPort;
+import org.example.application.port.output.PostFeedOutputPort;
 import org.example.application.port.output.PostPersistenceOutputPort;
+import org.example.application.port.output.TrendingOutputPort;
+import org.example.application.port.output.ViewCounterOutputPort;
 import org.example.application.port.output.UserPersistenceOutputPort;
 import org.example.domain.exceptions.PostAlreadyExistsException;
 import org.example.domain.exceptions.PostNotFoundException;
 import org.example.domain.exceptions.UserNotFoundException;
+import org.example.domain.models.CursorPage;
 import org.example.domain.models.Post;
+import org.example.domain.models.PostScore;
+import org.example.domain.models.PostSummary;
+import org.example.domain.models.PostView;
+import org.example.domain.models.TrendingPost;
 import org.example.domain.models.User;
 import org.example.domain.services.PostService;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +30,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +48,14 @@ public class PostServiceTest {
     private UserPersistenceOutputPort userPersistenceOutputPort;
     @Mock
     private PostPersistenceOutputPort postPersistenceOutputPort;
+    @Mock
+    private PostCacheOutputPort postCacheOutputPort;
+    @Mock
+    private PostFeedOutputPort postFeedOutputPort;
+    @Mock
+    private TrendingOutputPort trendingOutputPort;
+    @Mock
+    private ViewCounterOutputPort viewCounterOutputPort;
 
 
     private User user;
@@ -66,9 +86,6 @@ public class PostServiceTest {
         post.setTitle("My Blog Application");
         post.setContent("I love to create content");
 
-        when(userPersistenceOutputPort.existsById(user.getId())).thenReturn(true);
-        when(postPersistenceOutputPort.existsByTitleAndUserId(post.getTitle(), user.getId())).thenReturn(false);
-
         Post savedPost = new Post();
         savedPost.setId(200L);
         savedPost.setTitle(post.getTitle());
@@ -85,45 +102,59 @@ public class PostServiceTest {
         assertEquals(post.getContent(), result.getContent());
         assertEquals(user, result.getUser());
 
-        verify(userPersistenceOutputPort).existsById(user.getId());
-        verify(postPersistenceOutputPort).existsByTitleAndUserId(post.getTitle(), user.getId());
         verify(postPersistenceOutputPort).savePost(any(Post.class));
+        verify(postCacheOutputPort).evictPost(200L);
+        verify(postFeedOutputPort).putPost(argThat(summary -> summary.id().equals(200L)));
+        verifyNoInteractions(userPersistenceOutputPort);
     }
 
     @Test
-    public void testCreatePost_ShouldThrow_WhenUserNotFound() {
+    public void testCreatePost_ShouldThrow_WhenPostAlreadyExists() throws PostAlreadyExistsException {
         Post post = new Post();
-        post.setTitle("Test Title");
-        post.setContent("Test Content");
-        User invalidUser = new User();
-        invalidUser.setId(999L);
+        post.setTitle("Existing Title");
+        post.setContent("Existing Content");
 
-        when(userPersistenceOutputPort.existsById(invalidUser.getId())).thenReturn(false);
+        when(postPersistenceOutputPort.savePost(any(Post.class))).thenThrow(new PostAlreadyExistsException("Post already exists"));
 
-        assertThrows(UserNotFoundException.class, () -> {
-            postService.createPost(invalidUser, post);
+        assertThrows(PostAlreadyExistsException.class, () -> {
+            postService.createPost(user, post);
         });
 
-        verify(userPersistenceOutputPort).existsById(invalidUser.getId());
-        verifyNoInteractions(postPersistenceOutputPort);
+        verify(postPersistenceOutputPort).savePost(any(Post.class));
+        verifyNoInteractions(userPersistenceOutputPort, postFeedOutputPort);
     }
 
     @Test
-    public void testCreatePost_ShouldThrow_WhenPostAlreadyExists() throws UserNotFoundException {
+    public void testThatLongPostsReachTheFeedAsAnExcerpt() throws PostAlreadyExistsException {
         Post post = new Post();
-        post.setTitle("Existing Title");
-        post.setContent("Existing Content");
-
-        when(userPersistenceOutputPort.existsById(user.getId())).thenReturn(true);
-        when(postPersistenceOutputPort.existsByTitleAndUserId(post.getTitle(), user.getId())).thenReturn(true);
+        post.setTitle("Long read");
+        post.setContent("\uD83D\uDE00".repeat(5000));
 
-        assertThrows(PostAlreadyExistsException.class, () -> {
-            postService.createPost(user, post);
+        when(postPersistenceOutputPort.savePost(any(Post.class))).thenAnswer(invocation -> {
+            Post saved = invocation.getArgument(0);
+            saved.setId(200L);
+            return saved;
         });
 
-        verify(userPersistenceOutputPort).existsById(user.getId());
-        verify(postPersistenceOutputPort).existsByTitleAndUserId(post.getTitle(), user.getId());
-        verify(postPersistenceOutputPort, never()).savePost(any());
+        Post result = postService.createPost(user, post);
+
+        assertEquals(10_000, result.getContent().length());
+        // cut on code points, so the excerpt never ends in half a surrogate pair
+        verify(postFeedOutputPort).putPost(argThat(summary ->
+                summary.content().codePointCount(0, summary.content().length()) == PostSummary.EXCERPT_LENGTH
+                        && summary.content().length() == 2 * PostSummary.EXCERPT_LENGTH));
+    }
+
+    @Test
+    public void testCreatePost_ShouldThrow_WhenContentIsTooLong() {
+        Post post = new Post();
+        post.setTitle("Too long");
+        post.setContent("a".repeat(100_001));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService.createPost(user, post));
+
+        assertEquals(ErrorMessages.POST_CONTENT_TOO_LONG, exception.getMessage());
+        verifyNoInteractions(postPersistenceOutputPort, postFeedOutputPort);
     }
 
 
@@ -177,6 +208,8 @@ public class PostServiceTest {
 
         postService.deletePost(user, post.getId());
         verify(postPersistenceOutputPort).deletePost(postFromDb);
+        verify(postCacheOutputPort, times(2)).evictPost(post.getId());
+        verify(postFeedOutputPort).removePost(post.getId());
     }
 
 
@@ -227,7 +260,7 @@ public class PostServiceTest {
 
 
     @Test
-    public void testEditPost_Success() throws Exception, PostNotFoundException, UserNotFoundException {
+    public void testEditPost_Success() throws Exception, PostNotFoundException, UserNotFoundException, PostAlreadyExistsException {
         Post updatedPost = new Post();
         updatedPost.setId(existingPost.getId());
         updatedPost.setTitle("New Title");
@@ -248,6 +281,8 @@ public class PostServiceTest {
         verify(userPersistenceOutputPort).existsById(user.getId());
         verify(postPersistenceOutputPort).getPostById(updatedPost.getId());
         verify(postPersistenceOutputPort).savePost(any(Post.class));
+        verify(postCacheOutputPort).evictPost(existingPost.getId());
+        verify(postFeedOutputPort).putPost(argThat(summary -> summary.title().equals("New Title")));
     }
 
 
@@ -308,17 +343,26 @@ public class PostServiceTest {
         Post post = new Post();
         post.setId(1L);
         post.setTitle("Sample Title");
-        post.setContent("Sample Content");
+        post.setViewCount(41);
 
         when(postPersistenceOutputPort.getPostById(1L)).thenReturn(post);
+        when(postPersistenceOutputPort.getPostContent(1L)).thenReturn("Sample Content");
+        when(viewCounterOutputPort.recordView(1L, 41)).thenReturn(42L);
+        when(postCacheOutputPort.getPost(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<PostCacheOutputPort.PostLoader>getArgument(1).load(1L));
+        when(postCacheOutputPort.getContent(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<PostCacheOutputPort.ContentLoader>getArgument(1).load(1L));
 
-        Post result = postService.viewPost(post.getId());
+        PostView result = postService.viewPost(post.getId());
 
         assertNotNull(result);
-        assertEquals("Sample Title", result.getTitle());
-        assertEquals("Sample Content", result.getContent());
+        assertEquals("Sample Title", result.post().getTitle());
+        assertEquals("Sample Content", result.content());
+        assertNull(post.getContent());
+        assertEquals(42, result.viewCount());
 
         verify(postPersistenceOutputPort).getPostById(1L);
+        verify(trendingOutputPort).recordView(1L);
     }
 
     @Test
@@ -327,24 +371,53 @@ public class PostServiceTest {
         post.setId(2L);
 
         when(postPersistenceOutputPort.getPostById(2L)).thenThrow(new PostNotFoundException("Post not found"));
+        when(postCacheOutputPort.getPost(eq(2L), any())).thenAnswer(invocation ->
+                invocation.<PostCacheOutputPort.PostLoader>getArgument(1).load(2L));
 
         assertThrows(PostNotFoundException.class, () -> postService.viewPost(post.getId()));
 
         verify(postPersistenceOutputPort).getPostById(2L);
+        verifyNoInteractions(trendingOutputPort, viewCounterOutputPort);
     }
 
     @Test
     void getAllPostsByUserId_shouldReturnPosts_whenUserHasPosts() throws UserNotFoundException, PostNotFoundException {
         Long userId = 1L;
-        List<Post> mockPosts = List.of(new Post(), new Post());
+        CursorPage<PostSummary> mockPosts = new CursorPage<>(List.of(summary(1L), summary(2L)), "next");
+
+        when(userPersistenceOutputPort.existsById(userId)).thenReturn(true);
+        when(postPersistenceOutputPort.getPostsByUserId(userId, null, 20)).thenReturn(mockPosts);
+
+        CursorPage<PostSummary> result = postService.getAllPostsByUserId(userId, null, 20);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals("next", result.getNextCursor());
+        verify(postPersistenceOutputPort).getPostsByUserId(userId, null, 20);
+    }
+
+    @Test
+    void getAllPostsByUserId_shouldCapPageSize() throws UserNotFoundException, PostNotFoundException {
+        Long userId = 1L;
+
+        when(userPersistenceOutputPort.existsById(userId)).thenReturn(true);
+        when(postPersistenceOutputPort.getPostsByUserId(userId, "cursor", 100)).thenReturn(new CursorPage<>(List.of(summary(1L)), null));
+
+        postService.getAllPostsByUserId(userId, "cursor", 10_000);
+
+        verify(postPersistenceOutputPort).getPostsByUserId(userId, "cursor", 100);
+    }
+
+    @Test
+    void getAllPostsByUserId_shouldReturnEmptyPage_whenCursorIsPastTheLastPost() throws UserNotFoundException, PostNotFoundException {
+        Long userId = 1L;
 
         when(userPersistenceOutputPort.existsById(userId)).thenReturn(true);
-        when(postPersistenceOutputPort.getAllPostByUserId(userId)).thenReturn(mockPosts);
+        when(postPersistenceOutputPort.getPostsByUserId(userId, "cursor", 20)).thenReturn(new CursorPage<>(List.of(), null));
 
-        List<Post> result = postService.getAllPostsByUserId(userId);
+        CursorPage<PostSummary> result = postService.getAllPostsByUserId(userId, "cursor", 20);
 
-        assertEquals(2, result.size());
-        verify(postPersistenceOutputPort).getAllPostByUserId(userId);
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.hasNext());
     }
 
     @Test
@@ -353,7 +426,7 @@ public class PostServiceTest {
 
         when(userPersistenceOutputPort.existsById(userId)).thenReturn(false);
 
-        assertThrows(UserNotFoundException.class, () -> postService.getAllPostsByUserId(userId));
+        assertThrows(UserNotFoundException.class, () -> postService.getAllPostsByUserId(userId, null, 20));
     }
 
     @Test
@@ -361,17 +434,88 @@ public class PostServiceTest {
         Long userId = 3L;
 
         when(userPersistenceOutputPort.existsById(userId)).thenReturn(true);
-        when(postPersistenceOutputPort.getAllPostByUserId(userId)).thenReturn(List.of());
+        when(postPersistenceOutputPort.getPostsByUserId(userId, null, 20)).thenReturn(new CursorPage<>(List.of(), null));
 
-        assertThrows(PostNotFoundException.class, () -> postService.getAllPostsByUserId(userId));
+        assertThrows(PostNotFoundException.class, () -> postService.getAllPostsByUserId(userId, null, 20));
     }
 
+    @Test
+    void searchPosts_shouldReturnRankedPage() {
+        CursorPage<PostSummary> page = new CursorPage<>(List.of(summary(3L), summary(1L)), "next");
+        when(postPersistenceOutputPort.searchPosts("spring boot", null, 20)).thenReturn(page);
 
+        CursorPage<PostSummary> result = postService.searchPosts("  spring boot ", null, 20);
 
+        assertEquals(List.of(3L, 1L), result.getItems().stream().map(PostSummary::id).toList());
+        assertEquals("next", result.getNextCursor());
+    }
 
+    @Test
+    void searchPosts_shouldCapPageSize() {
+        when(postPersistenceOutputPort.searchPosts("spring", "cursor", 100)).thenReturn(new CursorPage<>(List.of(), null));
 
+        postService.searchPosts("spring", "cursor", 10_000);
 
-}
+        verify(postPersistenceOutputPort).searchPosts("spring", "cursor", 100);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidInputs")
+    void searchPosts_shouldRejectEmptyQuery(String query) {
+        assertThrows(IllegalArgumentException.class, () -> postService.searchPosts(query, null, 20));
+        verifyNoInteractions(postPersistenceOutputPort);
+    }
+
+    @Test
+    void searchPosts_shouldRejectOverlyLongQuery() {
+        assertThrows(IllegalArgumentException.class, () -> postService.searchPosts("a".repeat(201), null, 20));
+        verifyNoInteractions(postPersistenceOutputPort);
+    }
+
+    @Test
+    void getFeed_shouldServeFromMemoryWithoutQueryingDatabase() {
+        CursorPage<PostSummary> page = new CursorPage<>(List.of(summary(5L), summary(4L)), "next");
+        when(postFeedOutputPort.getLatestPosts(null, 20)).thenReturn(Optional.of(page));
+
+        assertSame(page, postService.getFeed(null, 20));
+        verifyNoInteractions(postPersistenceOutputPort);
+    }
 
+    @Test
+    void getFeed_shouldFallBackToDatabasePastTheTimeline() {
+        CursorPage<PostSummary> page = new CursorPage<>(List.of(summary(1L)), null);
+        when(postFeedOutputPort.getLatestPosts("cursor", 100)).thenReturn(Optional.empty());
+        when(postPersistenceOutputPort.getLatestPosts("cursor", 100)).thenReturn(page);
 
+        assertSame(page, postService.getFeed("cursor", 10_000));
+    }
 
+    @Test
+    void getTrendingPosts_shouldSkipPostsDeletedSinceRanking() {
+        PostSummary hot = new PostSummary(7L, "Hot", "excerpt", LocalDateTime.now(), 3);
+        when(trendingOutputPort.getTopPosts(10)).thenReturn(List.of(new PostScore(7L, 42), new PostScore(8L, 30)));
+        when(postPersistenceOutputPort.getPostSummaries(List.of(7L, 8L))).thenReturn(List.of(hot));
+
+        List<TrendingPost> trending = postService.getTrendingPosts(10);
+
+        assertEquals(1, trending.size());
+        assertEquals("Hot", trending.get(0).title());
+        assertEquals("excerpt", trending.get(0).content());
+        assertEquals(42, trending.get(0).score());
+        verifyNoInteractions(postCacheOutputPort);
+    }
+
+    @Test
+    void getTrendingPosts_shouldKeepTheRankingOrder() {
+        when(trendingOutputPort.getTopPosts(10)).thenReturn(List.of(new PostScore(9L, 50), new PostScore(4L, 20)));
+        when(postPersistenceOutputPort.getPostSummaries(List.of(9L, 4L))).thenReturn(List.of(summary(4L), summary(9L)));
+
+        List<TrendingPost> trending = postService.getTrendingPosts(10);
+
+        assertEquals(List.of(9L, 4L), trending.stream().map(TrendingPost::id).toList());
+    }
+
+    private static PostSummary summary(Long id) {
+        return new PostSummary(id, "title", "content", LocalDateTime.now(), 0);
+    }
+}
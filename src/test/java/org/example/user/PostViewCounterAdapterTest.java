@@ -0,0 +1,192 @@
+package org.example.user;
+
+import org.example.infrastructure.adapters.output.views.PostViewCounterAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PostViewCounterAdapterTest {
+
+    private final Map<Long, Long> viewCounts = new HashMap<>();
+    private final List<Integer> statementSizes = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private boolean failNextBatch;
+    private Runnable duringBatch = () -> {
+    };
+    private PostViewCounterAdapter postViewCounterAdapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            if (failNextBatch) {
+                failNextBatch = false;
+                throw new QueryTimeoutException("timeout");
+            }
+            runBatch(invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+        postViewCounterAdapter = new PostViewCounterAdapter(jdbcTemplate, Duration.ofSeconds(5), 2, 100);
+    }
+
+    @Test
+    public void testThatViewsAreCountedWithoutTouchingTheDatabase() {
+        assertEquals(11, postViewCounterAdapter.recordView(1L, 10));
+        assertEquals(12, postViewCounterAdapter.recordView(1L, 10));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testThatPendingViewsAreFlushedInBatches() {
+        viewCounts.putAll(Map.of(1L, 10L, 2L, 0L, 3L, 5L));
+        postViewCounterAdapter.recordView(1L, 10);
+        postViewCounterAdapter.recordView(1L, 10);
+        postViewCounterAdapter.recordView(2L, 0);
+        postViewCounterAdapter.recordView(3L, 5);
+
+        postViewCounterAdapter.flush();
+
+        assertEquals(Map.of(1L, 12L, 2L, 1L, 3L, 6L), viewCounts);
+        assertEquals(List.of(2, 1), statementSizes);
+        // a post cached before the flush still shows the flushed total
+        assertEquals(13, postViewCounterAdapter.recordView(1L, 10));
+    }
+
+    @Test
+    public void testThatNothingIsWrittenTwice() {
+        viewCounts.put(1L, 0L);
+        postViewCounterAdapter.recordView(1L, 0);
+
+        postViewCounterAdapter.flush();
+        postViewCounterAdapter.flush();
+
+        assertEquals(1L, viewCounts.get(1L));
+        assertEquals(List.of(1), statementSizes);
+    }
+
+    @Test
+    public void testThatViewsAreKeptWhenAFlushFails() {
+        viewCounts.put(1L, 0L);
+        postViewCounterAdapter.recordView(1L, 0);
+        failNextBatch = true;
+
+        assertThrows(QueryTimeoutException.class, () -> postViewCounterAdapter.flush());
+        postViewCounterAdapter.flush();
+
+        assertEquals(1L, viewCounts.get(1L));
+    }
+
+    @Test
+    public void testThatAViewDuringAFlushIsNotCountedTwice() {
+        viewCounts.put(1L, 10L);
+        postViewCounterAdapter.recordView(1L, 10);
+        postViewCounterAdapter.recordView(1L, 10);
+        List<Long> shownDuringFlush = new ArrayList<>();
+        duringBatch = () -> shownDuringFlush.add(postViewCounterAdapter.recordView(1L, 10));
+
+        postViewCounterAdapter.flush();
+
+        assertEquals(List.of(13L), shownDuringFlush);
+        assertEquals(14, postViewCounterAdapter.recordView(1L, 10));
+    }
+
+    @Test
+    public void testThatAPostIsCountedAgainAfterItsIdleCounterIsDropped() {
+        viewCounts.put(1L, 0L);
+        postViewCounterAdapter.recordView(1L, 0);
+        // written, then found empty twice, which drops the counter
+        postViewCounterAdapter.flush();
+        postViewCounterAdapter.flush();
+        postViewCounterAdapter.flush();
+
+        assertEquals(2, postViewCounterAdapter.recordView(1L, 0));
+        postViewCounterAdapter.flush();
+        postViewCounterAdapter.flush();
+
+        assertEquals(2L, viewCounts.get(1L));
+        assertEquals(List.of(1, 1), statementSizes);
+    }
+
+    @Test
+    public void testThatNoViewIsLostWhileIdleCountersAreDropped() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> recorders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            recorders.add(executor.submit(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    postViewCounterAdapter.recordView((long) ThreadLocalRandom.current().nextInt(500), 0);
+                }
+            }));
+        }
+        // flushing while views arrive keeps emptying counters, so many are dropped and recreated
+        while (!recorders.stream().allMatch(Future::isDone)) {
+            postViewCounterAdapter.flush();
+        }
+        for (Future<?> recorder : recorders) {
+            recorder.get();
+        }
+        executor.shutdown();
+        postViewCounterAdapter.flush();
+
+        assertEquals((long) threads * viewsPerThread, viewCounts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private void runBatch(PreparedStatementSetter setter, RowCallbackHandler rows) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(eq("bigint"), any())).thenAnswer(invocation -> array(invocation.getArgument(1)));
+        setter.setValues(statement);
+
+        Long[] ids = (Long[]) captureArray(statement, 1);
+        Long[] counts = (Long[]) captureArray(statement, 2);
+        statementSizes.add(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            long total = viewCounts.merge(ids[i], counts[i], Long::sum);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getLong(1)).thenReturn(ids[i]);
+            when(resultSet.getLong(2)).thenReturn(total);
+            rows.processRow(resultSet);
+        }
+        duringBatch.run();
+    }
+
+    private static Object captureArray(PreparedStatement statement, int index) throws SQLException {
+        ArgumentCaptor<Array> captor = ArgumentCaptor.forClass(Array.class);
+        verify(statement).setArray(eq(index), captor.capture());
+        return captor.getValue().getArray();
+    }
+
+    private static Array array(Object[] values) throws SQLException {
+        Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(values);
+        return array;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.application.port.output.ReactionPersistenceOutputPort;
+import org.example.domain.models.ReactionCount;
+import org.example.domain.models.ReactionTarget;
+import org.example.infrastructure.adapters.output.cache.CachedEntity;
+import org.example.infrastructure.adapters.output.cache.ReactionCountCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReactionCountCacheAdapterTest {
+
+    private final StubReactionStore store = new StubReactionStore();
+    private ReactionCountCacheAdapter reactionCountCacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        reactionCountCacheAdapter = new ReactionCountCacheAdapter(store, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(10), Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testThatCountsAreLoadedOnceAndAdjustedInMemory() {
+        store.counts.put(1L, 4L);
+
+        assertEquals(4L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 1L));
+        reactionCountCacheAdapter.adjustCount(ReactionTarget.POST, 1L, 1);
+        reactionCountCacheAdapter.adjustCount(ReactionTarget.POST, 1L, 1);
+        reactionCountCacheAdapter.adjustCount(ReactionTarget.POST, 1L, -1);
+
+        assertEquals(5L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 1L));
+        assertEquals(1, store.queries.get());
+    }
+
+    @Test
+    public void testThatAdjustingAnUncachedTargetDoesNotLoadIt() {
+        reactionCountCacheAdapter.adjustCount(ReactionTarget.POST, 1L, 1);
+
+        assertEquals(0, store.queries.get());
+        store.counts.put(1L, 7L);
+        assertEquals(7L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 1L));
+    }
+
+    @Test
+    public void testThatReconcilePicksUpReactionsFromOtherNodes() {
+        store.counts.put(1L, 2L);
+        store.counts.put(2L, 3L);
+        reactionCountCacheAdapter.getCount(ReactionTarget.POST, 1L);
+        reactionCountCacheAdapter.getCount(ReactionTarget.POST, 2L);
+        reactionCountCacheAdapter.getCount(ReactionTarget.POST, 3L);
+        store.queries.set(0);
+
+        store.counts.put(1L, 10L);
+        store.counts.remove(2L);
+        store.counts.put(3L, 1L);
+        reactionCountCacheAdapter.reconcile();
+
+        assertEquals(1, store.queries.get());
+        assertEquals(10L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 1L));
+        assertEquals(0L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 2L));
+        assertEquals(1L, reactionCountCacheAdapter.getCount(ReactionTarget.POST, 3L));
+    }
+
+    @Test
+    public void testThatDeletedTargetsAreEvicted() {
+        store.counts.put(1L, 2L);
+        reactionCountCacheAdapter.getCount(ReactionTarget.COMMENT, 1L);
+
+        store.counts.put(1L, 0L);
+        reactionCountCacheAdapter.evict(CachedEntity.COMMENT, 1L);
+
+        assertEquals(0L, reactionCountCacheAdapter.getCount(ReactionTarget.COMMENT, 1L));
+    }
+
+    private static class StubReactionStore implements ReactionPersistenceOutputPort {
+
+        private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+        private final AtomicInteger queries = new AtomicInteger();
+
+        @Override
+        public boolean saveReaction(Long userId, ReactionTarget target, Long targetId) {
+            return true;
+        }
+
+        @Override
+        public boolean deleteReaction(Long userId, ReactionTarget target, Long targetId) {
+            return true;
+        }
+
+        @Override
+        public List<ReactionCount> countReactions(ReactionTarget target, Collection<Long> targetIds) {
+            queries.incrementAndGet();
+            return targetIds.stream()
+                    .filter(counts::containsKey)
+                    .map(targetId -> new ReactionCount(targetId, counts.get(targetId)))
+                    .toList();
+        }
+    }
+}
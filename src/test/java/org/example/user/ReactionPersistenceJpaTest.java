@@ -0,0 +1,192 @@
+package org.example.user;
+
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.Post;
+import org.example.domain.models.ReactionTarget;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.cache.SecondLevelCacheInvalidationHandler;
+import org.example.infrastructure.adapters.output.persistence.adapter.CommentPersistenceAdapter;
+import org.example.infrastructure.adapters.output.persistence.adapter.PostPersistenceAdapter;
+import org.example.infrastructure.adapters.output.persistence.adapter.ReactionPersistenceAdapter;
+import org.example.infrastructure.adapters.output.persistence.entity.CommentEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.PostEntity;
+import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
+import org.example.infrastructure.adapters.output.persistence.mapper.CommentPersistenceMapperImpl;
+import org.example.infrastructure.adapters.output.persistence.mapper.PostPersistenceMapperImpl;
+import org.example.infrastructure.adapters.output.persistence.mapper.UserPersistenceMapperImpl;
+import org.example.infrastructure.adapters.output.persistence.repositories.CommentRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.PostRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.ReactionRepository;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReactionPersistenceAdapter.class, PostPersistenceAdapter.class, CommentPersistenceAdapter.class,
+        PostPersistenceMapperImpl.class, CommentPersistenceMapperImpl.class, UserPersistenceMapperImpl.class,
+        CacheInvalidationPublisher.class, SecondLevelCacheInvalidationHandler.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReactionPersistenceJpaTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+    }
+
+    @Autowired
+    private ReactionPersistenceAdapter reactionPersistenceAdapter;
+
+    @Autowired
+    private PostPersistenceAdapter postPersistenceAdapter;
+
+    @Autowired
+    private CommentPersistenceAdapter commentPersistenceAdapter;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserEntity user;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserEntity();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setUsername("reacting");
+        user.setEnabled(true);
+        user = userRepository.save(user);
+
+        PostEntity post = new PostEntity();
+        post.setTitle("Reacted to " + UUID.randomUUID());
+        post.setContent("Liked");
+        post.setPublishedDate(LocalDateTime.now());
+        post.setUser(user);
+        postId = postRepository.save(post).getId();
+    }
+
+    @Test
+    public void testThatDeletingAPostRemovesItsReactionsAndCounts() throws PostNotFoundException, CommentNotFoundException {
+        assertTrue(reactionPersistenceAdapter.saveReaction(user.getId(), ReactionTarget.POST, postId));
+
+        postPersistenceAdapter.deletePost(post(postId));
+
+        assertEquals(0, rows("reaction", ReactionTarget.POST, postId));
+        assertEquals(0, rows("reaction_count_shard", ReactionTarget.POST, postId));
+    }
+
+    @Test
+    public void testThatDeletingACommentRemovesItsReactionsAndCounts() throws PostNotFoundException, CommentNotFoundException {
+        CommentEntity comment = new CommentEntity();
+        comment.setContent("Nice");
+        comment.setCommentedAt(LocalDateTime.now());
+        comment.setUser(user);
+        comment.setPost(postRepository.getReferenceById(postId));
+        Long commentId = commentRepository.save(comment).getId();
+        assertTrue(reactionPersistenceAdapter.saveReaction(user.getId(), ReactionTarget.COMMENT, commentId));
+
+        assertTrue(commentPersistenceAdapter.deleteCommentById(commentId));
+
+        assertEquals(0, rows("reaction", ReactionTarget.COMMENT, commentId));
+        assertEquals(0, rows("reaction_count_shard", ReactionTarget.COMMENT, commentId));
+        assertTrue(reactionPersistenceAdapter.countReactions(ReactionTarget.COMMENT, List.of(commentId)).isEmpty());
+    }
+
+    @Test
+    public void testThatReactingToADeletedPostInsertsNothing() {
+        postPersistenceAdapter.deletePost(post(postId));
+
+        assertThrows(PostNotFoundException.class,
+                () -> reactionPersistenceAdapter.saveReaction(user.getId(), ReactionTarget.POST, postId));
+        assertEquals(0, rows("reaction", ReactionTarget.POST, postId));
+    }
+
+    // the reaction checked the post and is not committed yet: the delete has to wait for it and take it along
+    @Test
+    public void testThatAReactionInsertedDuringTheDeleteIsRemovedWithThePost() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> reaction = executor.submit(() -> transaction.execute(status -> {
+                int count = reactionRepository.insertIfAbsent(user.getId(), ReactionTarget.POST.name(), postId);
+                inserted.countDown();
+                awaitQuietly(commit);
+                return count;
+            }));
+            assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+            Future<?> delete = executor.submit(() -> postPersistenceAdapter.deletePost(post(postId)));
+            Thread.sleep(500);
+            assertFalse(delete.isDone());
+
+            commit.countDown();
+            assertEquals(1, reaction.get(10, TimeUnit.SECONDS));
+            delete.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        assertFalse(postRepository.existsById(postId));
+        assertEquals(0, rows("reaction", ReactionTarget.POST, postId));
+    }
+
+    private int rows(String table, ReactionTarget target, Long targetId) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where target_type = ? and target_id = ?",
+                Integer.class, target.name(), targetId);
+    }
+
+    private static Post post(Long id) {
+        Post post = new Post();
+        post.setId(id);
+        return post;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
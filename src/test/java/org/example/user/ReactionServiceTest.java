@@ -0,0 +1,90 @@
+package org.example.user;
+
+import org.example.application.port.output.ReactionCountCacheOutputPort;
+import org.example.application.port.output.ReactionPersistenceOutputPort;
+import org.example.domain.exceptions.CommentNotFoundException;
+import org.example.domain.exceptions.PostNotFoundException;
+import org.example.domain.models.ReactionTarget;
+import org.example.domain.models.User;
+import org.example.domain.services.ReactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionServiceTest {
+
+    @Mock
+    private ReactionPersistenceOutputPort reactionPersistenceOutputPort;
+
+    @Mock
+    private ReactionCountCacheOutputPort reactionCountCacheOutputPort;
+
+    @InjectMocks
+    private ReactionService reactionService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    void react_shouldSaveReactionAndAdjustCount() throws PostNotFoundException, CommentNotFoundException {
+        when(reactionPersistenceOutputPort.saveReaction(1L, ReactionTarget.POST, 10L)).thenReturn(true);
+        when(reactionCountCacheOutputPort.getCount(ReactionTarget.POST, 10L)).thenReturn(3L);
+
+        assertEquals(3L, reactionService.react(user, ReactionTarget.POST, 10L));
+
+        verify(reactionCountCacheOutputPort).adjustCount(ReactionTarget.POST, 10L, 1);
+    }
+
+    @Test
+    void react_shouldNotAdjustCount_whenUserAlreadyReacted() throws PostNotFoundException, CommentNotFoundException {
+        when(reactionPersistenceOutputPort.saveReaction(1L, ReactionTarget.COMMENT, 5L)).thenReturn(false);
+        when(reactionCountCacheOutputPort.getCount(ReactionTarget.COMMENT, 5L)).thenReturn(1L);
+
+        assertEquals(1L, reactionService.react(user, ReactionTarget.COMMENT, 5L));
+
+        verify(reactionCountCacheOutputPort, never()).adjustCount(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void react_shouldThrowPostNotFound_whenPostDoesNotExist() throws PostNotFoundException, CommentNotFoundException {
+        when(reactionPersistenceOutputPort.saveReaction(1L, ReactionTarget.POST, 10L)).thenThrow(new PostNotFoundException("Post not found"));
+
+        assertThrows(PostNotFoundException.class, () -> reactionService.react(user, ReactionTarget.POST, 10L));
+
+        verifyNoInteractions(reactionCountCacheOutputPort);
+    }
+
+    @Test
+    void react_shouldThrowCommentNotFound_whenCommentDoesNotExist() throws PostNotFoundException, CommentNotFoundException {
+        when(reactionPersistenceOutputPort.saveReaction(1L, ReactionTarget.COMMENT, 5L)).thenThrow(new CommentNotFoundException("Comment not found"));
+
+        assertThrows(CommentNotFoundException.class, () -> reactionService.react(user, ReactionTarget.COMMENT, 5L));
+
+        verifyNoInteractions(reactionCountCacheOutputPort);
+    }
+
+    @Test
+    void removeReaction_shouldOnlyAdjustCount_whenAReactionWasRemoved() {
+        when(reactionPersistenceOutputPort.deleteReaction(1L, ReactionTarget.POST, 10L)).thenReturn(true, false);
+
+        reactionService.removeReaction(user, ReactionTarget.POST, 10L);
+        reactionService.removeReaction(user, ReactionTarget.POST, 10L);
+
+        verify(reactionCountCacheOutputPort, times(1)).adjustCount(ReactionTarget.POST, 10L, -1);
+        verify(reactionCountCacheOutputPort, times(2)).getCount(ReactionTarget.POST, 10L);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.user;
+
+import org.example.infrastructure.adapters.config.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private DataSource replica;
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofSeconds(10));
+        replicaRoutingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaRoutingDataSource.destroy();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    public void testThatWorkOutsideReadOnlyTransactionsUsesThePrimary() throws SQLException {
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+
+        beginTransaction(false);
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+    }
+
+    @Test
+    public void testThatReadOnlyTransactionsUseAReplica() throws SQLException {
+        beginTransaction(true);
+
+        assertSame(replicaConnection, replicaRoutingDataSource.getConnection());
+    }
+
+    @Test
+    public void testThatUnreachableReplicaFallsBackToThePrimary() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        beginTransaction(true);
+
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    public void testThatUserIsPinnedToThePrimaryAfterTheirOwnWrite() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer@example.com", null, "ROLE_user"));
+        beginTransaction(false);
+        replicaRoutingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        beginTransaction(true);
+        assertSame(primaryConnection, replicaRoutingDataSource.getConnection());
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("reader@example.com", null, "ROLE_user"));
+        assertSame(replicaConnection, replicaRoutingDataSource.getConnection());
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
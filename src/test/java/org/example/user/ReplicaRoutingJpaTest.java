@@ -0,0 +1,142 @@
+package org.example.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.models.User;
+import org.example.infrastructure.adapters.config.JwtAuthConverter;
+import org.example.infrastructure.adapters.config.datasource.ReadReplicaDataSourceConfig;
+import org.example.infrastructure.adapters.config.security.AuthenticatedUserCache;
+import org.example.infrastructure.adapters.config.security.TokenAuthoritiesCache;
+import org.example.infrastructure.adapters.output.cache.CacheInvalidationPublisher;
+import org.example.infrastructure.adapters.output.persistence.adapter.UserPersistenceAdapter;
+import org.example.infrastructure.adapters.output.persistence.entity.UserEntity;
+import org.example.infrastructure.adapters.output.persistence.mapper.UserPersistenceMapperImpl;
+import org.example.infrastructure.adapters.output.persistence.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The replica is a copy of the schema that never sees the primary's writes, read under a role that may only
+// read: a read routed to it misses anything just written, and a write routed to it fails the way it would
+// on a standby instead of silently landing on the primary.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaDataSourceConfig.class, JwtAuthConverter.class, UserPersistenceAdapter.class, UserPersistenceMapperImpl.class,
+        AuthenticatedUserCache.class, TokenAuthoritiesCache.class, CacheInvalidationPublisher.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaRoutingJpaTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresDatabase.register(registry);
+        registry.add("app.datasource.replica.urls", EmbeddedPostgresDatabase::replicaUrl);
+        registry.add("app.datasource.replica.username", () -> EmbeddedPostgresDatabase.READ_ONLY_USER);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @Autowired
+    private JwtAuthConverter jwtAuthConverter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    @Test
+    public void testThatAWriteAfterAReadOnlyCallGoesToThePrimary() {
+        assertFalse(openInView);
+
+        userRepository.existsById(1L);
+        UserEntity saved = userRepository.save(newUser());
+
+        // outside a transaction, so this reads the primary
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from user_entity where id = ?", Integer.class, saved.getId()));
+    }
+
+    // signing up is unauthenticated, so nothing pins the new user's first request to the primary; the
+    // token has to be resolved there or the user is unknown until the replica catches up
+    @Test
+    public void testThatAUserCanAuthenticateRightAfterSigningUp() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setUsername("signed-up");
+        user.setEnabled(true);
+        User saved = userPersistenceAdapter.saveUser(user);
+
+        AbstractAuthenticationToken authentication = jwtAuthConverter.convert(jwt(saved.getEmail()));
+
+        assertEquals(saved.getId(), ((User) authentication.getPrincipal()).getId());
+    }
+
+    // what open-in-view would do to every request: the first read binds a replica connection to the
+    // request's EntityManager and the write reuses it
+    @Test
+    public void testThatAnEntityManagerHeldAcrossCallsKeepsTheReplicaConnection() {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        interceptor.preHandle(request);
+        try {
+            userRepository.existsById(1L);
+
+            Exception exception = assertThrows(Exception.class, () -> userRepository.save(newUser()));
+            assertTrue(rootMessage(exception).contains("permission denied"), rootMessage(exception));
+        } finally {
+            interceptor.afterCompletion(request, null);
+        }
+    }
+
+    private static UserEntity newUser() {
+        UserEntity user = new UserEntity();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setUsername("routing");
+        user.setEnabled(true);
+        return user;
+    }
+
+    private static Jwt jwt(String email) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue(UUID.randomUUID().toString())
+                .header("alg", "RS256")
+                .subject("keycloak-id")
+                .claim("email", email)
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofMinutes(5)))
+                .build();
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return String.valueOf(throwable.getMessage());
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.user;
+
+import org.example.domain.models.PostScore;
+import org.example.infrastructure.adapters.output.trending.PostEngagementStore;
+import org.example.infrastructure.adapters.output.trending.TrendingPostsAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TrendingPostsAdapterTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock();
+    private TrendingPostsAdapter trendingPostsAdapter;
+
+    @BeforeEach
+    void setUp() {
+        trendingPostsAdapter = new TrendingPostsAdapter(mock(PostEngagementStore.class), clock, Duration.ofMinutes(60), 12, 3, 5,
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void testThatPostsAreRankedByWeightedEngagement() {
+        views(1L, 10);
+        views(2L, 3);
+        trendingPostsAdapter.recordComment(2L);
+        trendingPostsAdapter.recordComment(2L);
+        views(3L, 1);
+
+        trendingPostsAdapter.refresh();
+
+        assertEquals(List.of(new PostScore(2L, 13), new PostScore(1L, 10), new PostScore(3L, 1)), trendingPostsAdapter.getTopPosts(10));
+        assertEquals(List.of(2L), trendingPostsAdapter.getTopPosts(1).stream().map(PostScore::postId).toList());
+    }
+
+    @Test
+    public void testThatOnlyTheTopKAreKeptAsScoresChange() {
+        views(1L, 5);
+        views(2L, 4);
+        views(3L, 3);
+        views(4L, 2);
+        trendingPostsAdapter.refresh();
+
+        views(4L, 10);
+        trendingPostsAdapter.refresh();
+
+        assertEquals(List.of(4L, 1L, 2L), trendingPostsAdapter.getTopPosts(10).stream().map(PostScore::postId).toList());
+    }
+
+    @Test
+    public void testThatEngagementExpiresWithTheWindow() {
+        views(1L, 10);
+        clock.advance(Duration.ofMinutes(30));
+        views(2L, 2);
+        trendingPostsAdapter.refresh();
+        assertEquals(List.of(1L, 2L), trendingPostsAdapter.getTopPosts(10).stream().map(PostScore::postId).toList());
+
+        clock.advance(Duration.ofMinutes(35));
+        trendingPostsAdapter.refresh();
+
+        assertEquals(List.of(new PostScore(2L, 2)), trendingPostsAdapter.getTopPosts(10));
+    }
+
+    @Test
+    public void testThatConcurrentViewsAreAllCounted() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> views(1L, 10_000));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        trendingPostsAdapter.refresh();
+
+        assertEquals(80_000, trendingPostsAdapter.getTopPosts(1).get(0).score());
+    }
+
+    // every round the window slides past all earlier views, so the ranking thread drops every counter
+    // while the next round's views are being recorded on them
+    @Test
+    public void testThatNoViewIsLostWhileIdleCountersAreDropped() throws Exception {
+        TrendingPostsAdapter adapter = new TrendingPostsAdapter(mock(PostEngagementStore.class), clock, Duration.ofMinutes(60), 12, 1000, 5,
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 500; round++) {
+                clock.advance(Duration.ofMinutes(60));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> viewers = new ArrayList<>();
+                for (int t = 0; t < 7; t++) {
+                    viewers.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < 1_000; i++) {
+                            adapter.recordView((long) ThreadLocalRandom.current().nextInt(500));
+                        }
+                        return null;
+                    }));
+                }
+                viewers.add(executor.submit(() -> {
+                    start.await();
+                    adapter.refresh();
+                    return null;
+                }));
+                start.countDown();
+                for (Future<?> viewer : viewers) {
+                    viewer.get(10, TimeUnit.SECONDS);
+                }
+                adapter.refresh();
+
+                assertEquals(7_000, adapter.getTopPosts(1000).stream().mapToLong(PostScore::score).sum(), "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void views(Long postId, int count) {
+        for (int i = 0; i < count; i++) {
+            trendingPostsAdapter.recordView(postId);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.user;
+
+import org.example.application.port.output.IdentityManagementOutputPort;
+import org.example.application.port.output.UserPersistenceOutputPort;
+import org.example.domain.exceptions.IdentityManagerException;
+import org.example.domain.models.User;
+import org.example.domain.models.UserImportResult;
+import org.example.domain.services.UserImportService;
+import org.example.infrastructure.adapters.input.rest.messages.ErrorMessages;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class UserImportServiceTest {
+
+    @Mock
+    private IdentityManagementOutputPort identityManagementOutputPort;
+
+    @Mock
+    private UserPersistenceOutputPort userPersistenceOutputPort;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private UserImportService userImportService;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws IdentityManagerException {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(userImportService, "hashingThreads", 2);
+        ReflectionTestUtils.invokeMethod(userImportService, "startHashingPool");
+
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        when(userPersistenceOutputPort.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(identityManagementOutputPort.createUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().collect(Collectors.toMap(user -> user.getEmail().toLowerCase(), user -> "kc-" + user.getEmail()));
+        });
+        when(userPersistenceOutputPort.saveUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(userImportService, "stopHashingPool");
+    }
+
+    @Test
+    public void testThatUsersAreImportedInBatches() throws IdentityManagerException {
+        List<UserImportResult> results = importAll(newUser("a@example.com"), newUser("b@example.com"), newUser("c@example.com"));
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(UserImportResult::isImported));
+        assertEquals(List.of(1L, 2L, 3L), results.stream().map(UserImportResult::getRow).toList());
+        verify(identityManagementOutputPort, times(2)).createUsers(anyList());
+        verify(userPersistenceOutputPort, times(2)).saveUsers(anyList());
+        verify(passwordEncoder, times(3)).encode(any());
+    }
+
+    @Test
+    public void testThatPasswordsAreHashedBeforeProvisioning() throws IdentityManagerException {
+        importAll(newUser("a@example.com"));
+
+        verify(identityManagementOutputPort).createUsers(argThat(users -> users.get(0).getPassword().equals("hashed-password")));
+    }
+
+    @Test
+    public void testThatInvalidAndDuplicateRowsAreReportedWithoutStoppingTheImport() throws IdentityManagerException {
+        ReflectionTestUtils.setField(userImportService, "batchSize", 10);
+        User invalid = newUser("b@example.com");
+        invalid.setFirstName(" ");
+
+        List<UserImportResult> results = importAll(newUser("a@example.com"), invalid, newUser("A@example.com"), newUser("c@example.com"));
+
+        assertTrue(results.get(0).isImported());
+        assertFalse(results.get(1).isImported());
+        assertEquals(ErrorMessages.EMPTY_INPUT_ERROR, results.get(1).getMessage());
+        assertFalse(results.get(2).isImported());
+        assertEquals(ErrorMessages.USER_EXISTS_ALREADY, results.get(2).getMessage());
+        assertTrue(results.get(3).isImported());
+    }
+
+    @Test
+    public void testThatExistingUsersAreSkipped() throws IdentityManagerException {
+        when(userPersistenceOutputPort.findExistingEmails(anyCollection())).thenReturn(Set.of("A@Example.com"));
+
+        List<UserImportResult> results = importAll(newUser("a@example.com"), newUser("b@example.com"));
+
+        assertFalse(results.get(0).isImported());
+        assertEquals(ErrorMessages.USER_EXISTS_ALREADY, results.get(0).getMessage());
+        assertTrue(results.get(1).isImported());
+        verify(identityManagementOutputPort).createUsers(argThat(users -> users.size() == 1));
+    }
+
+    @Test
+    public void testThatUsersSkippedByIdentityProviderAreReportedAsExisting() throws IdentityManagerException {
+        when(identityManagementOutputPort.createUsers(anyList())).thenReturn(Map.of("b@example.com", "kc-b"));
+
+        List<UserImportResult> results = importAll(newUser("a@example.com"), newUser("b@example.com"));
+
+        assertFalse(results.get(0).isImported());
+        assertTrue(results.get(1).isImported());
+        verify(userPersistenceOutputPort).saveUsers(argThat(users -> users.size() == 1));
+    }
+
+    @Test
+    public void testThatIdentityProviderFailureFailsOnlyThatBatch() throws IdentityManagerException {
+        when(identityManagementOutputPort.createUsers(anyList()))
+                .thenThrow(new IdentityManagerException("Keycloak unavailable"))
+                .thenReturn(Map.of("c@example.com", "kc-c"));
+
+        List<UserImportResult> results = importAll(newUser("a@example.com"), newUser("b@example.com"), newUser("c@example.com"));
+
+        assertEquals("Keycloak unavailable", results.get(0).getMessage());
+        assertEquals("Keycloak unavailable", results.get(1).getMessage());
+        assertTrue(results.get(2).isImported());
+    }
+
+    private List<UserImportResult> importAll(User... users) {
+        List<UserImportResult> results = new ArrayList<>();
+        userImportService.signUpAll(Stream.of(users), results::add);
+        return results;
+    }
+
+    private User newUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setUsername(email);
+        user.setPassword("password");
+        user.setFirstName("first");
+        user.setLastName("last");
+        user.setRole("user");
+        return user;
+    }
+}